@@ -24,8 +24,13 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request, final CallbackContext callbackContext,
             final Logger logger) {
-        return handleRequest(proxy, request, callbackContext != null ? callbackContext : new CallbackContext(),
-                proxy.newProxy(ClientBuilder::getClient), logger);
+        final ApiCallMetrics metrics = ApiCallMetrics.start(getClass());
+        try {
+            return handleRequest(proxy, request, callbackContext != null ? callbackContext : new CallbackContext(),
+                    proxy.newProxy(ClientBuilder::getClient), logger);
+        } finally {
+            metrics.finish(logger);
+        }
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -1,9 +1,39 @@
 package software.amazon.logs.destination;
 
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
 class Configuration extends BaseConfiguration {
 
+    private static final String SCHEMA_FILENAME = "aws-logs-destination.json";
+
     public Configuration() {
-        super("aws-logs-destination.json");
+        super(SCHEMA_FILENAME);
+        // The Lambda runtime constructs the handler, and with it this configuration, before the first request
+        Primer.primeIfEnabled(System.getenv(Primer.PRIMING_ENVIRONMENT_VARIABLE), this);
     }
 
+    /**
+     * The schema is parsed once per classloader, when first requested, and the same object is returned
+     * to every invocation a warm container serves. Callers must treat it as read only.
+     */
+    public JSONObject resourceSchemaJSONObject() {
+        return ResourceSchemaHolder.RESOURCE_SCHEMA;
+    }
+
+    private static final class ResourceSchemaHolder {
+        private static final JSONObject RESOURCE_SCHEMA = loadResourceSchema();
+
+        private static JSONObject loadResourceSchema() {
+            try (InputStream schema = Configuration.class.getClassLoader().getResourceAsStream(SCHEMA_FILENAME)) {
+                return new JSONObject(new JSONTokener(schema));
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
 }
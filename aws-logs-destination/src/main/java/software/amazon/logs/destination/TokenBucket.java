@@ -0,0 +1,66 @@
+package software.amazon.logs.destination;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * A token bucket used to pace calls against the CloudWatch Logs API rate limits.
+ *
+ * The bucket holds up to {@code burst} tokens and refills at {@code permitsPerSecond}. Callers that
+ * find it empty reserve a future token and sleep until it becomes available, so calls are spread
+ * out instead of being rejected by the service and retried with backoff.
+ */
+final class TokenBucket {
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double permitsPerSecond;
+    private final double capacity;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    TokenBucket(final double permitsPerSecond, final int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    TokenBucket(final double permitsPerSecond, final int burst, final LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException(
+                String.format("Invalid token bucket rate [%s] or burst [%d]", permitsPerSecond, burst));
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.capacity = burst;
+        this.nanoClock = nanoClock;
+        this.tokens = burst;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Takes a token, blocking until one is available.
+     */
+    void acquire() {
+        final long waitNanos = reserve();
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (final InterruptedException e) {
+                // pacing is best effort, let the caller proceed and observe the interrupt
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Takes a token, possibly one that has not been refilled yet.
+     *
+     * @return how long the caller has to wait, in nanoseconds, before its token is available
+     */
+    synchronized long reserve() {
+        final long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerSecond / NANOS_PER_SECOND);
+        lastRefillNanos = now;
+        tokens -= 1;
+        return tokens >= 0 ? 0 : (long) Math.ceil(-tokens * NANOS_PER_SECOND / permitsPerSecond);
+    }
+}
@@ -1,24 +1,117 @@
 package software.amazon.logs.loggroup;
 
+import com.google.common.annotations.VisibleForTesting;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.retry.conditions.RetryCondition;
 import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClientBuilder;
 import software.amazon.cloudformation.LambdaWrapper;
 
+import java.net.URI;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
 public class ClientBuilder {
     private ClientBuilder() {}
 
+    static final String ENDPOINT_OVERRIDE_PROPERTY = "software.amazon.logs.endpointOverride";
+
     private static final RetryPolicy RETRY_POLICY =
         RetryPolicy.builder()
             .numRetries(6)
             .retryCondition(RetryCondition.defaultRetryCondition())
             .build();
 
+    /**
+     * Shared by every client so the per-API rate limits hold across handler invocations.
+     */
+    static final RateLimitingInterceptor RATE_LIMITER = new RateLimitingInterceptor();
+
+    private static final MetricsInterceptor METRICS = new MetricsInterceptor();
+
+    private static final AtomicInteger CLIENTS_BUILT = new AtomicInteger();
+
+    private static volatile CloudWatchLogsClient cloudWatchLogsClient;
+
+    private static volatile CloudWatchLogsClient fanOutClient;
+
+    /**
+     * Returns the container wide CloudWatchLogsClient, building it on first use.
+     *
+     * The client carries no credentials (they are injected per request by the proxy) and its region
+     * comes from the Lambda environment, so a single instance can safely be shared by every handler
+     * invocation a warm container serves. Reusing it avoids paying for client construction,
+     * interceptor chain setup and endpoint resolution on every API call.
+     *
+     * @return a CloudWatchLogsClient
+     */
     public static CloudWatchLogsClient getClient() {
-        return CloudWatchLogsClient.builder()
+        CloudWatchLogsClient client = cloudWatchLogsClient;
+        if (client == null) {
+            synchronized (ClientBuilder.class) {
+                client = cloudWatchLogsClient;
+                if (client == null) {
+                    client = buildClient(true);
+                    cloudWatchLogsClient = client;
+                }
+            }
+        }
+        return client;
+    }
+
+    /**
+     * Returns the container wide client for fan-outs, building it on first use.
+     *
+     * It shares the HTTP client, retry policy and metrics of {@link #getClient()}, but its calls are not paced by
+     * {@link #RATE_LIMITER}: a fan-out (e.g. one ListTagsLogGroup per log group on a list page) bounds its own
+     * concurrency and leaves throttled calls to the SDK retries, instead of queueing behind the control plane
+     * default rate.
+     *
+     * @return a CloudWatchLogsClient
+     */
+    public static CloudWatchLogsClient getFanOutClient() {
+        CloudWatchLogsClient client = fanOutClient;
+        if (client == null) {
+            synchronized (ClientBuilder.class) {
+                client = fanOutClient;
+                if (client == null) {
+                    client = buildClient(false);
+                    fanOutClient = client;
+                }
+            }
+        }
+        return client;
+    }
+
+    /**
+     * @return the number of clients built by this container so far
+     */
+    @VisibleForTesting
+    static int getClientsBuilt() {
+        return CLIENTS_BUILT.get();
+    }
+
+    private static CloudWatchLogsClient buildClient(final boolean paced) {
+        CLIENTS_BUILT.incrementAndGet();
+        final ClientOverrideConfiguration.Builder overrideConfiguration = ClientOverrideConfiguration.builder()
+            .retryPolicy(RETRY_POLICY)
+            .addExecutionInterceptor(METRICS);
+        if (paced) {
+            overrideConfiguration.addExecutionInterceptor(RATE_LIMITER);
+        }
+        final CloudWatchLogsClientBuilder builder = CloudWatchLogsClient.builder()
             .httpClient(LambdaWrapper.HTTP_CLIENT)
-            .overrideConfiguration(ClientOverrideConfiguration.builder().retryPolicy(RETRY_POLICY).build())
-            .build();
+            .overrideConfiguration(overrideConfiguration.build());
+        endpointOverride().ifPresent(builder::endpointOverride);
+        return builder.build();
+    }
+
+    /**
+     * Points the clients at a stand-in for CloudWatch Logs, e.g. the fake service used by the benchmarks.
+     * The property is never set when running in Lambda.
+     */
+    private static Optional<URI> endpointOverride() {
+        return Optional.ofNullable(System.getProperty(ENDPOINT_OVERRIDE_PROPERTY)).map(URI::create);
     }
 }
@@ -4,17 +4,28 @@ import org.json.JSONObject;
 import org.json.JSONTokener;
 import software.amazon.awssdk.utils.CollectionUtils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 class Configuration extends BaseConfiguration {
 
+    private static final String SCHEMA_FILENAME = "aws-logs-loggroup.json";
+
     public Configuration() {
-        super("aws-logs-loggroup.json");
+        super(SCHEMA_FILENAME);
+        // The Lambda runtime constructs the handler, and with it this configuration, before the first request
+        Primer.primeIfEnabled(System.getenv(Primer.PRIMING_ENVIRONMENT_VARIABLE), this);
     }
 
+    /**
+     * The schema is parsed once per classloader, when first requested, and the same object is returned
+     * to every invocation a warm container serves. Callers must treat it as read only.
+     */
     public JSONObject resourceSchemaJSONObject() {
-        return new JSONObject(new JSONTokener(this.getClass().getClassLoader().getResourceAsStream(schemaFilename)));
+        return ResourceSchemaHolder.RESOURCE_SCHEMA;
     }
 
     public Map<String, String> resourceDefinedTags(final ResourceModel resourceModel) {
@@ -26,4 +37,16 @@ class Configuration extends BaseConfiguration {
                 .stream()
                 .collect(Collectors.toMap(Tag::getKey, Tag::getValue, (value1, value2) -> value2));
     }
+
+    private static final class ResourceSchemaHolder {
+        private static final JSONObject RESOURCE_SCHEMA = loadResourceSchema();
+
+        private static JSONObject loadResourceSchema() {
+            try (InputStream schema = Configuration.class.getClassLoader().getResourceAsStream(SCHEMA_FILENAME)) {
+                return new JSONObject(new JSONTokener(schema));
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
 }
@@ -18,6 +18,19 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
+        final ApiCallMetrics metrics = ApiCallMetrics.start(getClass());
+        try {
+            return doHandleRequest(proxy, request, callbackContext, logger);
+        } finally {
+            metrics.finish(logger);
+        }
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
@@ -16,6 +16,19 @@ public class DeleteHandler extends BaseHandler<CallbackContext> {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        final ApiCallMetrics metrics = ApiCallMetrics.start(getClass());
+        try {
+            return doHandleRequest(proxy, request, callbackContext, logger);
+        } finally {
+            metrics.finish(logger);
+        }
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
         try {
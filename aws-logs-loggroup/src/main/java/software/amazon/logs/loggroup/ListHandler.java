@@ -1,7 +1,9 @@
 package software.amazon.logs.loggroup;
 
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
 import software.amazon.awssdk.services.cloudwatchlogs.model.ListTagsLogGroupResponse;
 import software.amazon.awssdk.services.cloudwatchlogs.model.LogGroup;
+import software.amazon.awssdk.services.cloudwatchlogs.model.ResourceNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -9,10 +11,27 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsResponse;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Collectors;
 
 public class ListHandler extends BaseHandler<CallbackContext> {
+    // Upper bound on ListTagsLogGroup calls in flight for a single list page
+    static final int MAX_CONCURRENT_TAG_REQUESTS = 10;
+
+    private static final Executor TAG_REQUEST_EXECUTOR = Executors.newFixedThreadPool(MAX_CONCURRENT_TAG_REQUESTS,
+        runnable -> {
+            final Thread thread = new Thread(runnable, "loggroup-list-tags");
+            thread.setDaemon(true);
+            return thread;
+        });
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -20,22 +39,105 @@ public class ListHandler extends BaseHandler<CallbackContext> {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        final ApiCallMetrics metrics = ApiCallMetrics.start(getClass());
+        try {
+            return doHandleRequest(proxy, request, callbackContext, logger);
+        } finally {
+            metrics.finish(logger);
+        }
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
         final DescribeLogGroupsResponse response =
                 proxy.injectCredentialsAndInvokeV2(Translator.translateToListRequest(request.getNextToken()),
                     ClientBuilder.getClient()::describeLogGroups);
 
-        final Map<String, ListTagsLogGroupResponse> tagResponses = Translator.streamOfOrEmpty(response.logGroups())
-                .collect(Collectors.toMap(
-                        LogGroup::logGroupName,
-                        logGroup -> proxy.injectCredentialsAndInvokeV2(Translator.translateToListTagsLogGroupRequest(logGroup.logGroupName()),
-                                ClientBuilder.getClient()::listTagsLogGroup))
-                );
+        final List<String> logGroupNames = Translator.streamOfOrEmpty(response.logGroups())
+                .map(LogGroup::logGroupName)
+                .collect(Collectors.toList());
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
                 .status(OperationStatus.SUCCESS)
-                .resourceModels(Translator.translateForList(response, tagResponses))
+                .resourceModels(Translator.translateForList(response, listTags(proxy, logGroupNames)))
                 .nextToken(response.nextToken())
                 .build();
     }
+
+    /**
+     * Fetches the tags of every log group on a page concurrently.
+     *
+     * The credentials are injected on the handler thread; the calls themselves run on
+     * {@link #TAG_REQUEST_EXECUTOR}, at most {@link #MAX_CONCURRENT_TAG_REQUESTS} at once, through the
+     * container's fan-out client. A log group deleted since DescribeLogGroups listed it is left out of the page.
+     * Any other failed call fails the page: no further calls are issued, and the page fails without waiting for
+     * the calls already issued, which finish in the background with their results discarded.
+     *
+     * @return the tags of every log group on the page that still exists
+     */
+    private Map<String, ListTagsLogGroupResponse> listTags(final AmazonWebServicesClientProxy proxy,
+                                                           final List<String> logGroupNames) {
+        final CloudWatchLogsClient client = ClientBuilder.getFanOutClient();
+        // the calls are recorded by the metrics of this invocation, whichever pool thread runs them
+        final Executor executor = task -> TAG_REQUEST_EXECUTOR.execute(ApiCallMetrics.bindToCurrent(task));
+        final Semaphore inFlight = new Semaphore(MAX_CONCURRENT_TAG_REQUESTS);
+        final CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+        final Map<String, CompletableFuture<ListTagsLogGroupResponse>> futures = new LinkedHashMap<>();
+        final List<CompletableFuture<Void>> settled = new ArrayList<>();
+
+        for (final String logGroupName : logGroupNames) {
+            inFlight.acquireUninterruptibly();
+            if (firstFailure.isDone()) {
+                inFlight.release();
+                break;
+            }
+            final CompletableFuture<ListTagsLogGroupResponse> future;
+            try {
+                future = proxy.injectCredentialsAndInvokeV2Async(
+                        Translator.translateToListTagsLogGroupRequest(logGroupName),
+                        tagsRequest -> CompletableFuture.supplyAsync(() -> client.listTagsLogGroup(tagsRequest), executor));
+            } catch (final RuntimeException e) {
+                inFlight.release();
+                throw e;
+            }
+            futures.put(logGroupName, future);
+            // settles once the failure, if any, is recorded
+            settled.add(future.whenComplete((tags, error) -> {
+                inFlight.release();
+                final Throwable cause = unwrap(error);
+                if (cause != null && !(cause instanceof ResourceNotFoundException)) {
+                    firstFailure.completeExceptionally(cause);
+                }
+            }).handle((tags, error) -> null));
+        }
+
+        try {
+            CompletableFuture.anyOf(CompletableFuture.allOf(settled.toArray(new CompletableFuture<?>[0])), firstFailure).join();
+            if (firstFailure.isDone()) {
+                firstFailure.join();
+            }
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+
+        final Map<String, ListTagsLogGroupResponse> tagResponses = new LinkedHashMap<>();
+        // every call is done, and only the ones for deleted log groups failed
+        futures.forEach((logGroupName, future) -> {
+            if (!future.isCompletedExceptionally()) {
+                tagResponses.put(logGroupName, future.join());
+            }
+        });
+        return tagResponses;
+    }
+
+    private static Throwable unwrap(final Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
 }
@@ -0,0 +1,90 @@
+package software.amazon.logs.loggroup;
+
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+/**
+ * Reports every CloudWatch Logs call to the {@link ApiCallMetrics} of the handler invocation making it.
+ *
+ * The recorder is looked up once per call, on the thread issuing it, and carried in the execution
+ * attributes so that retries and async completions on SDK threads are attributed to the same invocation.
+ * Calls made outside of a handler invocation are not recorded.
+ *
+ * Throttles are counted per attempt, from the HTTP response, since the SDK retries a throttled attempt and the
+ * call usually succeeds in the end.
+ */
+final class MetricsInterceptor implements ExecutionInterceptor {
+    // Attribute names are unique per module so the handlers can share a classpath, e.g. in the benchmarks
+    private static final ExecutionAttribute<ApiCallMetrics> METRICS =
+        new ExecutionAttribute<>(MetricsInterceptor.class.getName() + ".Metrics");
+    private static final ExecutionAttribute<Long> START_NANOS =
+        new ExecutionAttribute<>(MetricsInterceptor.class.getName() + ".StartNanos");
+
+    static final String ERROR_TYPE_HEADER = "x-amzn-ErrorType";
+    static final String THROTTLING_ERROR_TYPE = "ThrottlingException";
+
+    @Override
+    public void beforeExecution(final Context.BeforeExecution context,
+                                final ExecutionAttributes executionAttributes) {
+        final ApiCallMetrics metrics = ApiCallMetrics.current();
+        if (metrics != null) {
+            executionAttributes.putAttribute(METRICS, metrics);
+            executionAttributes.putAttribute(START_NANOS, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void beforeTransmission(final Context.BeforeTransmission context,
+                                   final ExecutionAttributes executionAttributes) {
+        final ApiCallMetrics metrics = executionAttributes.getAttribute(METRICS);
+        if (metrics != null) {
+            metrics.recordAttempt(executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME));
+        }
+    }
+
+    @Override
+    public void afterTransmission(final Context.AfterTransmission context,
+                                  final ExecutionAttributes executionAttributes) {
+        final ApiCallMetrics metrics = executionAttributes.getAttribute(METRICS);
+        if (metrics != null && isThrottled(context.httpResponse())) {
+            metrics.recordThrottle(executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME));
+        }
+    }
+
+    @Override
+    public void afterExecution(final Context.AfterExecution context,
+                               final ExecutionAttributes executionAttributes) {
+        recordCall(executionAttributes, null);
+    }
+
+    @Override
+    public void onExecutionFailure(final Context.FailedExecution context,
+                                   final ExecutionAttributes executionAttributes) {
+        recordCall(executionAttributes, context.exception());
+    }
+
+    private static void recordCall(final ExecutionAttributes executionAttributes, final Throwable failure) {
+        final ApiCallMetrics metrics = executionAttributes.getAttribute(METRICS);
+        if (metrics == null) {
+            return;
+        }
+        metrics.recordCall(executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME),
+            System.nanoTime() - executionAttributes.getAttribute(START_NANOS),
+            failure != null);
+    }
+
+    /**
+     * @return whether the attempt was throttled, which CloudWatch Logs answers with a 400 and a ThrottlingException
+     * error type, and its front end with a 429
+     */
+    static boolean isThrottled(final SdkHttpResponse response) {
+        return response.statusCode() == 429
+            || response.firstMatchingHeader(ERROR_TYPE_HEADER)
+                .map(errorType -> errorType.startsWith(THROTTLING_ERROR_TYPE))
+                .orElse(false);
+    }
+}
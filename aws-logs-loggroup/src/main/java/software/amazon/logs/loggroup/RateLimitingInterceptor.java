@@ -0,0 +1,73 @@
+package software.amazon.logs.loggroup;
+
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Paces CloudWatch Logs API calls with one token bucket per API.
+ *
+ * Control plane APIs have a burst limit of 10 and rate limit of 5 unless configured otherwise, so a
+ * call that would exceed its limit is delayed here before it is sent instead of being throttled by
+ * the service and retried with backoff.
+ *
+ * The hook runs for every attempt, so a retry takes a token of its own and may wait for it on top of
+ * the SDK backoff. The wait blocks the thread making the call: it is spent inside the handler
+ * invocation and counts against its Lambda time. Fan-outs that bound their own concurrency should use
+ * a client without this interceptor rather than queue here.
+ *
+ * {@link ClientBuilder#getFanOutClient()} is such a client. A List sends its ListTagsLogGroup calls, one
+ * per log group on the page, through it, so only DescribeLogGroups and the calls of the other handlers are
+ * paced here.
+ */
+final class RateLimitingInterceptor implements ExecutionInterceptor {
+    static final RateLimit DEFAULT_LIMIT = new RateLimit(5, 10);
+
+    private final Map<String, RateLimit> limits;
+    private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    RateLimitingInterceptor() {
+        this(Collections.emptyMap());
+    }
+
+    /**
+     * @param limits rate limits keyed by API name (e.g. DescribeLogGroups), APIs not listed use {@link #DEFAULT_LIMIT}
+     */
+    RateLimitingInterceptor(final Map<String, RateLimit> limits) {
+        this.limits = new HashMap<>(limits);
+    }
+
+    @Override
+    public void beforeTransmission(final Context.BeforeTransmission context,
+                                   final ExecutionAttributes executionAttributes) {
+        bucketFor(executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME)).acquire();
+    }
+
+    /**
+     * @param operationName the API name, e.g. ListTagsLogGroup
+     * @return the token bucket shared by every call to the API
+     */
+    TokenBucket bucketFor(final String operationName) {
+        return buckets.computeIfAbsent(operationName, name -> {
+            final RateLimit limit = limits.getOrDefault(name, DEFAULT_LIMIT);
+            return new TokenBucket(limit.permitsPerSecond, limit.burst);
+        });
+    }
+
+    static final class RateLimit {
+        private final double permitsPerSecond;
+        private final int burst;
+
+        RateLimit(final double permitsPerSecond, final int burst) {
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst = burst;
+        }
+    }
+}
@@ -20,6 +20,19 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        final ApiCallMetrics metrics = ApiCallMetrics.start(getClass());
+        try {
+            return doHandleRequest(proxy, request, callbackContext, logger);
+        } finally {
+            metrics.finish(logger);
+        }
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
 
@@ -30,7 +43,8 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
         DescribeLogGroupsResponse response = null;
         LogGroup matchingLogGroup = null;
         String nextToken = null;
-        // Keep paginating until requested log group is found
+        int pagesScanned = 0;
+        // Keep paginating until requested log group is found, or the listing has gone past its name
         do {
             try {
                 response = proxy.injectCredentialsAndInvokeV2(Translator.translateToReadRequest(model, nextToken),
@@ -38,16 +52,19 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
             } catch (final ResourceNotFoundException e) {
                 throwNotFoundException(model);
             }
+            pagesScanned++;
 
             matchingLogGroup = Translator.getMatchingLogGroup(response, model.getLogGroupName());
 
-            // If log group found, break out of loop
-            if (matchingLogGroup != null) {
+            // If log group found, or it cannot be on a later page, break out of loop
+            if (matchingLogGroup != null || Translator.isPastLogGroup(response, model.getLogGroupName())) {
                 break;
             }
 
             nextToken = response.nextToken();
         } while (nextToken != null);
+        logger.log(String.format("Scanned %d DescribeLogGroups page(s) for log group %s",
+                pagesScanned, model.getLogGroupName()));
 
         // If paginated all log groups, still cannot find it
         if (matchingLogGroup == null) {
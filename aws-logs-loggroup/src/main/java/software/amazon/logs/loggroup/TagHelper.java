@@ -141,11 +141,20 @@ public class TagHelper {
      * Determines the tags the customer desired to define or redefine.
      */
     public static Map<String, String> generateTagsToAdd(final Map<String, String> previousTags, final Map<String, String> desiredTags) {
-        return desiredTags.entrySet().stream()
-            .filter(e -> !previousTags.containsKey(e.getKey()) || !Objects.equals(previousTags.get(e.getKey()), e.getValue()))
-            .collect(Collectors.toMap(
-                Map.Entry::getKey,
-                Map.Entry::getValue));
+        Map<String, String> tagsToAdd = null;
+        for (final Map.Entry<String, String> desiredTag : desiredTags.entrySet()) {
+            final String previousValue = previousTags.get(desiredTag.getKey());
+            final boolean unchanged = previousValue != null
+                ? previousValue.equals(desiredTag.getValue())
+                : desiredTag.getValue() == null && previousTags.containsKey(desiredTag.getKey());
+            if (!unchanged) {
+                if (tagsToAdd == null) {
+                    tagsToAdd = new HashMap<>();
+                }
+                tagsToAdd.put(desiredTag.getKey(), desiredTag.getValue());
+            }
+        }
+        return tagsToAdd != null ? tagsToAdd : Collections.emptyMap();
     }
 
     /**
@@ -154,10 +163,15 @@ public class TagHelper {
      * Determines the tags the customer desired to remove from the function.
      */
     public static Set<String> generateTagsToRemove(final Map<String, String> previousTags, final Map<String, String> desiredTags) {
-        final Set<String> desiredTagNames = desiredTags.keySet();
-
-        return previousTags.keySet().stream()
-            .filter(tagName -> !desiredTagNames.contains(tagName))
-            .collect(Collectors.toSet());
+        Set<String> tagsToRemove = null;
+        for (final String previousTagName : previousTags.keySet()) {
+            if (!desiredTags.containsKey(previousTagName)) {
+                if (tagsToRemove == null) {
+                    tagsToRemove = new HashSet<>();
+                }
+                tagsToRemove.add(previousTagName);
+            }
+        }
+        return tagsToRemove != null ? tagsToRemove : Collections.emptySet();
     }
 }
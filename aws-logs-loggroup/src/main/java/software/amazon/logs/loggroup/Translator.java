@@ -17,6 +17,7 @@ import software.amazon.awssdk.utils.CollectionUtils;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -29,12 +30,16 @@ final class Translator {
 
     static final String ACCESS_DENIED_ERROR_CODE = "AccessDeniedException";
 
+    // A log group sorts before every other log group its name prefixes, so reads only need small pages
+    static final int READ_PAGE_SIZE = 5;
+
     private Translator() {}
 
     static DescribeLogGroupsRequest translateToReadRequest(final ResourceModel model, final String nextToken) {
         return DescribeLogGroupsRequest.builder()
                 .logGroupNamePrefix(model.getLogGroupName())
                 .nextToken(nextToken)
+                .limit(READ_PAGE_SIZE)
                 .build();
     }
 
@@ -131,8 +136,13 @@ final class Translator {
         }
     }
 
+    /**
+     * @param tagResponses the tags of each log group still there; the log groups without tags here were deleted
+     *                     since they were listed and are left out
+     */
     static List<ResourceModel> translateForList(final DescribeLogGroupsResponse response, final Map<String, ListTagsLogGroupResponse> tagResponses) {
         return streamOfOrEmpty(response.logGroups())
+                .filter(logGroup -> tagResponses.containsKey(logGroup.logGroupName()))
                 .map(logGroup -> ResourceModel.builder()
                         .arn(logGroup.arn())
                         .logGroupName(logGroup.logGroupName())
@@ -152,6 +162,16 @@ final class Translator {
         return matchedLogGroup;
     }
 
+    /**
+     * DescribeLogGroups lists log groups in ascending order of name, so once a page holds a name that sorts
+     * after the requested one, the requested log group cannot show up on a later page.
+     */
+    static boolean isPastLogGroup(final DescribeLogGroupsResponse response, final String requestLogGroupName) {
+        return streamOfOrEmpty(response.logGroups())
+                .filter(Objects::nonNull)
+                .anyMatch(lg -> lg.logGroupName().compareTo(requestLogGroupName) > 0);
+    }
+
     static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
         return Optional.ofNullable(collection)
                 .map(Collection::stream)
@@ -181,7 +201,15 @@ final class Translator {
         if (CollectionUtils.isNullOrEmpty(tags)) {
             return null;
         }
-        return tags.entrySet().stream().map(tag -> new Tag(tag.getKey(), tag.getValue()))
-                .collect(Collectors.toSet());
+        final Set<Tag> resourceTags = new HashSet<>(mapCapacity(tags.size()));
+        for (final Map.Entry<String, String> tag : tags.entrySet()) {
+            resourceTags.add(new Tag(tag.getKey(), tag.getValue()));
+        }
+        return resourceTags;
+    }
+
+    // Sizes a hash based collection so that it holds the given number of entries without rehashing
+    private static int mapCapacity(final int size) {
+        return (int) (size / 0.75f) + 1;
     }
 }
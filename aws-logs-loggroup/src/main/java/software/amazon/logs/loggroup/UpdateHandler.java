@@ -40,12 +40,27 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        final ApiCallMetrics metrics = ApiCallMetrics.start(getClass());
+        try {
+            return doHandleRequest(proxy, request, callbackContext, logger);
+        } finally {
+            metrics.finish(logger);
+        }
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
         final ResourceModel previousModel = request.getPreviousResourceState();
         final boolean retentionChanged = ! retentionUnchanged(previousModel, model);
         final boolean kmsKeyChanged = ! kmsKeyUnchanged(previousModel, model);
         final boolean tagsChanged =  TagHelper.shouldUpdateTags(model, request);
+        // Retention, KMS key and tags are updated one after another: CloudWatch Logs aborts concurrent
+        // modifications of the same log group with an OperationAbortedException
         if (retentionChanged && model.getRetentionInDays() == null) {
             deleteRetentionPolicy(proxy, request, logger);
         } else if (retentionChanged){
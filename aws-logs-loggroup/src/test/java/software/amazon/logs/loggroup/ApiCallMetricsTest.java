@@ -0,0 +1,98 @@
+package software.amazon.logs.loggroup;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class ApiCallMetricsTest {
+
+    @Test
+    public void actionName_FromHandlerClass() {
+        assertThat(ApiCallMetrics.actionName(CreateHandler.class))
+            .isEqualTo(ResourceModel.TYPE_NAME.replace("::", "-") + "::Create");
+    }
+
+    @Test
+    public void start_BindsRecorderToThreadUntilFinished() {
+        final Logger logger = mock(Logger.class);
+
+        final ApiCallMetrics metrics = ApiCallMetrics.start(ReadHandler.class);
+        assertThat(ApiCallMetrics.current()).isSameAs(metrics);
+
+        metrics.finish(logger);
+        assertThat(ApiCallMetrics.current()).isNull();
+
+        final ArgumentCaptor<String> line = ArgumentCaptor.forClass(String.class);
+        verify(logger).log(line.capture());
+        assertThat(line.getValue()).startsWith(ApiCallMetrics.SUMMARY_PREFIX + "{\"action\":\"");
+    }
+
+    @Test
+    public void finish_LeavesLaterRecorderBound() {
+        final ApiCallMetrics first = ApiCallMetrics.start(CreateHandler.class);
+        final ApiCallMetrics second = ApiCallMetrics.start(ReadHandler.class);
+
+        first.finish(mock(Logger.class));
+        assertThat(ApiCallMetrics.current()).isSameAs(second);
+
+        second.finish(mock(Logger.class));
+        assertThat(ApiCallMetrics.current()).isNull();
+    }
+
+    @Test
+    public void bindToCurrent_BindsRecorderOnOtherThread() throws InterruptedException {
+        final ApiCallMetrics metrics = ApiCallMetrics.start(UpdateHandler.class);
+        final AtomicReference<ApiCallMetrics> bound = new AtomicReference<>();
+        final AtomicReference<ApiCallMetrics> after = new AtomicReference<>();
+        final Runnable task = ApiCallMetrics.bindToCurrent(() -> bound.set(ApiCallMetrics.current()));
+
+        final Thread thread = new Thread(() -> {
+            task.run();
+            after.set(ApiCallMetrics.current());
+        });
+        thread.start();
+        thread.join();
+        metrics.finish(mock(Logger.class));
+
+        assertThat(bound.get()).isSameAs(metrics);
+        assertThat(after.get()).isNull();
+    }
+
+    @Test
+    public void summary_EmptyWhenNoCalls() {
+        final ApiCallMetrics metrics = new ApiCallMetrics("AWS-Logs-LogGroup::Read");
+
+        assertThat(metrics.summary())
+            .contains("\"calls\":0,\"retries\":0,\"throttles\":0,\"errors\":0,\"operations\":{}");
+    }
+
+    @Test
+    public void summary_CountsPerOperation() {
+        final ApiCallMetrics metrics = new ApiCallMetrics("AWS-Logs-LogGroup::Update");
+
+        metrics.recordAttempt("PutRetentionPolicy");
+        metrics.recordAttempt("PutRetentionPolicy");
+        metrics.recordAttempt("PutRetentionPolicy");
+        metrics.recordCall("PutRetentionPolicy", TimeUnit.MILLISECONDS.toNanos(40), false);
+        metrics.recordAttempt("TagLogGroup");
+        metrics.recordThrottle("TagLogGroup");
+        metrics.recordCall("TagLogGroup", TimeUnit.MILLISECONDS.toNanos(8), true);
+        metrics.recordAttempt("TagLogGroup");
+        metrics.recordCall("TagLogGroup", TimeUnit.SECONDS.toNanos(6), false);
+
+        assertThat(metrics.summary())
+            .startsWith("{\"action\":\"AWS-Logs-LogGroup::Update\"")
+            .contains("\"calls\":3,\"retries\":2,\"throttles\":1,\"errors\":1")
+            .contains("\"PutRetentionPolicy\":{\"calls\":1,\"retries\":2,\"throttles\":0,\"errors\":0,"
+                + "\"totalMillis\":40,\"maxMillis\":40,\"latencyMillis\":{\"le50\":1}}")
+            .contains("\"TagLogGroup\":{\"calls\":2,\"retries\":0,\"throttles\":1,\"errors\":1,"
+                + "\"totalMillis\":6008,\"maxMillis\":6000,\"latencyMillis\":{\"le10\":1,\"gt5000\":1}}");
+    }
+}
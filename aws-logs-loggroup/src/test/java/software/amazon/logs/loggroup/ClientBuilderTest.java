@@ -0,0 +1,32 @@
+package software.amazon.logs.loggroup;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientBuilderTest {
+
+    @Test
+    public void getClient_ReusesClientAcrossCalls() {
+        final CloudWatchLogsClient first = ClientBuilder.getClient();
+        final int clientsBuilt = ClientBuilder.getClientsBuilt();
+
+        final CloudWatchLogsClient second = ClientBuilder.getClient();
+
+        assertThat(second).isSameAs(first);
+        assertThat(ClientBuilder.getClientsBuilt()).isEqualTo(clientsBuilt);
+    }
+
+    @Test
+    public void getFanOutClient_ReusesClientAcrossCalls() {
+        final CloudWatchLogsClient first = ClientBuilder.getFanOutClient();
+        final int clientsBuilt = ClientBuilder.getClientsBuilt();
+
+        final CloudWatchLogsClient second = ClientBuilder.getFanOutClient();
+
+        assertThat(second).isSameAs(first);
+        assertThat(second).isNotSameAs(ClientBuilder.getClient());
+        assertThat(ClientBuilder.getClientsBuilt()).isEqualTo(clientsBuilt);
+    }
+}
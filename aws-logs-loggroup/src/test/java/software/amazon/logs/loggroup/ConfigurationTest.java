@@ -1,5 +1,6 @@
 package software.amazon.logs.loggroup;
 
+import org.json.JSONObject;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
@@ -25,4 +26,12 @@ class ConfigurationTest {
 
         assertThat(configuration.resourceDefinedTags(model)).isEqualTo(Collections.singletonMap("key-1", "value-2"));
     }
+
+    @Test
+    public void testResourceSchemaJSONObject_ParsedOnce() {
+        final JSONObject schema = new Configuration().resourceSchemaJSONObject();
+
+        assertThat(schema.getString("typeName")).isEqualTo(ResourceModel.TYPE_NAME);
+        assertThat(new Configuration().resourceSchemaJSONObject()).isSameAs(schema);
+    }
 }
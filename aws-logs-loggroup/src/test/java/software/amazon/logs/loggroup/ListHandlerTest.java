@@ -14,14 +14,22 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsResponse;
 import software.amazon.awssdk.services.cloudwatchlogs.model.LogGroup;
+import software.amazon.awssdk.services.cloudwatchlogs.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.cloudwatchlogs.model.ServiceUnavailableException;
 
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class ListHandlerTest {
@@ -77,15 +85,15 @@ public class ListHandlerTest {
                 ArgumentMatchers.any(),
                 ArgumentMatchers.any()
             );
-        doReturn(tagsResponse)
+        doReturn(CompletableFuture.completedFuture(tagsResponse))
                 .when(proxy)
-                .injectCredentialsAndInvokeV2(
+                .injectCredentialsAndInvokeV2Async(
                         ArgumentMatchers.eq(Translator.translateToListTagsLogGroupRequest(logGroup.logGroupName())),
                         ArgumentMatchers.any()
                 );
-        doReturn(tagsResponse2)
+        doReturn(CompletableFuture.completedFuture(tagsResponse2))
                 .when(proxy)
-                .injectCredentialsAndInvokeV2(
+                .injectCredentialsAndInvokeV2Async(
                         ArgumentMatchers.eq(Translator.translateToListTagsLogGroupRequest(logGroup2.logGroupName())),
                         ArgumentMatchers.any()
                 );
@@ -120,4 +128,162 @@ public class ListHandlerTest {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    @Test
+    public void handleRequest_LogGroupDeletedDuringList() {
+        final DescribeLogGroupsResponse describeResponse = DescribeLogGroupsResponse.builder()
+                .logGroups(LogGroup.builder().logGroupName("LogGroup").build(),
+                        LogGroup.builder().logGroupName("LogGroup2").build())
+                .build();
+        final CompletableFuture<ListTagsLogGroupResponse> deleted = new CompletableFuture<>();
+        deleted.completeExceptionally(new CompletionException(ResourceNotFoundException.builder().build()));
+
+        doReturn(describeResponse)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(
+                        ArgumentMatchers.any(),
+                        ArgumentMatchers.any()
+                );
+        doReturn(deleted)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2Async(
+                        ArgumentMatchers.eq(Translator.translateToListTagsLogGroupRequest("LogGroup")),
+                        ArgumentMatchers.any()
+                );
+        doReturn(CompletableFuture.completedFuture(ListTagsLogGroupResponse.builder().build()))
+                .when(proxy)
+                .injectCredentialsAndInvokeV2Async(
+                        ArgumentMatchers.eq(Translator.translateToListTagsLogGroupRequest("LogGroup2")),
+                        ArgumentMatchers.any()
+                );
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getLogGroupName)
+                .containsExactly("LogGroup2");
+    }
+
+    @Test
+    public void handleRequest_TagFetchFails() {
+        final DescribeLogGroupsResponse describeResponse = DescribeLogGroupsResponse.builder()
+                .logGroups(LogGroup.builder().logGroupName("LogGroup").build())
+                .build();
+        final CompletableFuture<ListTagsLogGroupResponse> failed = new CompletableFuture<>();
+        failed.completeExceptionally(ServiceUnavailableException.builder().build());
+
+        doReturn(describeResponse)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(
+                        ArgumentMatchers.any(),
+                        ArgumentMatchers.any()
+                );
+        doReturn(failed)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2Async(
+                        ArgumentMatchers.any(),
+                        ArgumentMatchers.any()
+                );
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().build();
+
+        assertThatThrownBy(() -> handler.handleRequest(proxy, request, null, logger))
+                .isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    @Test
+    public void handleRequest_TagFetchFails_StopsIssuingCalls() {
+        final DescribeLogGroupsResponse describeResponse = DescribeLogGroupsResponse.builder()
+                .logGroups(LogGroup.builder().logGroupName("LogGroup").build(),
+                        LogGroup.builder().logGroupName("LogGroup2").build(),
+                        LogGroup.builder().logGroupName("LogGroup3").build())
+                .build();
+        final CompletableFuture<ListTagsLogGroupResponse> pending = new CompletableFuture<>();
+        final CompletableFuture<ListTagsLogGroupResponse> failed = new CompletableFuture<>();
+        failed.completeExceptionally(ServiceUnavailableException.builder().build());
+
+        doReturn(describeResponse)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(
+                        ArgumentMatchers.any(),
+                        ArgumentMatchers.any()
+                );
+        doReturn(pending)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2Async(
+                        ArgumentMatchers.eq(Translator.translateToListTagsLogGroupRequest("LogGroup")),
+                        ArgumentMatchers.any()
+                );
+        doReturn(failed)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2Async(
+                        ArgumentMatchers.eq(Translator.translateToListTagsLogGroupRequest("LogGroup2")),
+                        ArgumentMatchers.any()
+                );
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().build();
+
+        // fails without waiting for the call still in flight
+        assertThatThrownBy(() -> handler.handleRequest(proxy, request, null, logger))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(pending.isDone()).isFalse();
+        verify(proxy, never()).injectCredentialsAndInvokeV2Async(
+                ArgumentMatchers.eq(Translator.translateToListTagsLogGroupRequest("LogGroup3")),
+                ArgumentMatchers.any());
+    }
+
+    @Test
+    public void handleRequest_TagFetchFailsWithCheckedException() {
+        final DescribeLogGroupsResponse describeResponse = DescribeLogGroupsResponse.builder()
+                .logGroups(LogGroup.builder().logGroupName("LogGroup").build())
+                .build();
+        final CompletableFuture<ListTagsLogGroupResponse> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new Exception("failed"));
+
+        doReturn(describeResponse)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(
+                        ArgumentMatchers.any(),
+                        ArgumentMatchers.any()
+                );
+        doReturn(failed)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2Async(
+                        ArgumentMatchers.any(),
+                        ArgumentMatchers.any()
+                );
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().build();
+
+        assertThatThrownBy(() -> handler.handleRequest(proxy, request, null, logger))
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(Exception.class);
+    }
+
+    @Test
+    public void handleRequest_TagFetchThrowsBeforeSubmitting() {
+        final DescribeLogGroupsResponse describeResponse = DescribeLogGroupsResponse.builder()
+                .logGroups(LogGroup.builder().logGroupName("LogGroup").build())
+                .build();
+
+        doReturn(describeResponse)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(
+                        ArgumentMatchers.any(),
+                        ArgumentMatchers.any()
+                );
+        doThrow(ResourceNotFoundException.builder().build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2Async(
+                        ArgumentMatchers.any(),
+                        ArgumentMatchers.any()
+                );
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().build();
+
+        assertThatThrownBy(() -> handler.handleRequest(proxy, request, null, logger))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
 }
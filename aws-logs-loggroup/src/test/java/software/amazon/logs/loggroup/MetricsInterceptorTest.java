@@ -0,0 +1,124 @@
+package software.amazon.logs.loggroup;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.CloudWatchLogsException;
+import software.amazon.cloudformation.proxy.Logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class MetricsInterceptorTest {
+    private final MetricsInterceptor interceptor = new MetricsInterceptor();
+
+    @AfterEach
+    public void tear_down() {
+        final ApiCallMetrics metrics = ApiCallMetrics.current();
+        if (metrics != null) {
+            metrics.finish(mock(Logger.class));
+        }
+    }
+
+    @Test
+    public void records_SuccessfulCallWithRetry() {
+        final ApiCallMetrics metrics = ApiCallMetrics.start(CreateHandler.class);
+        final ExecutionAttributes attributes = attributes("CreateLogGroup");
+
+        interceptor.beforeExecution(null, attributes);
+        interceptor.beforeTransmission(null, attributes);
+        interceptor.beforeTransmission(null, attributes);
+        interceptor.afterExecution(null, attributes);
+
+        assertThat(metrics.summary()).contains("\"calls\":1,\"retries\":1,\"throttles\":0,\"errors\":0");
+    }
+
+    @Test
+    public void records_ThrottledAttemptRetried() {
+        final ApiCallMetrics metrics = ApiCallMetrics.start(CreateHandler.class);
+        final ExecutionAttributes attributes = attributes("CreateLogGroup");
+
+        interceptor.beforeExecution(null, attributes);
+        interceptor.beforeTransmission(null, attributes);
+        interceptor.afterTransmission(response(400, "ThrottlingException:"), attributes);
+        interceptor.beforeTransmission(null, attributes);
+        interceptor.afterTransmission(response(200, null), attributes);
+        interceptor.afterExecution(null, attributes);
+
+        assertThat(metrics.summary()).contains("\"calls\":1,\"retries\":1,\"throttles\":1,\"errors\":0");
+    }
+
+    @Test
+    public void isThrottled_FromResponse() {
+        assertThat(MetricsInterceptor.isThrottled(response(429, null).httpResponse())).isTrue();
+        assertThat(MetricsInterceptor.isThrottled(response(400, "ThrottlingException").httpResponse())).isTrue();
+        assertThat(MetricsInterceptor.isThrottled(response(400, "ResourceNotFoundException").httpResponse())).isFalse();
+        assertThat(MetricsInterceptor.isThrottled(response(200, null).httpResponse())).isFalse();
+    }
+
+    @Test
+    public void records_ThrottledCall() {
+        final ApiCallMetrics metrics = ApiCallMetrics.start(DeleteHandler.class);
+        final ExecutionAttributes attributes = attributes("PutRetentionPolicy");
+        final Context.FailedExecution failed = mock(Context.FailedExecution.class);
+        when(failed.exception()).thenReturn(CloudWatchLogsException.builder()
+            .statusCode(400)
+            .awsErrorDetails(AwsErrorDetails.builder().errorCode("ThrottlingException").build())
+            .build());
+
+        interceptor.beforeExecution(null, attributes);
+        interceptor.beforeTransmission(null, attributes);
+        interceptor.afterTransmission(response(400, "ThrottlingException"), attributes);
+        interceptor.onExecutionFailure(failed, attributes);
+
+        assertThat(metrics.summary()).contains("\"calls\":1,\"retries\":0,\"throttles\":1,\"errors\":1");
+    }
+
+    @Test
+    public void records_FailedCall() {
+        final ApiCallMetrics metrics = ApiCallMetrics.start(ReadHandler.class);
+        final ExecutionAttributes attributes = attributes("DescribeLogGroups");
+        final Context.FailedExecution failed = mock(Context.FailedExecution.class);
+        when(failed.exception()).thenReturn(CloudWatchLogsException.builder()
+            .statusCode(400)
+            .awsErrorDetails(AwsErrorDetails.builder().errorCode("ResourceNotFoundException").build())
+            .build());
+
+        interceptor.beforeExecution(null, attributes);
+        interceptor.beforeTransmission(null, attributes);
+        interceptor.onExecutionFailure(failed, attributes);
+
+        assertThat(metrics.summary()).contains("\"calls\":1,\"retries\":0,\"throttles\":0,\"errors\":1");
+    }
+
+    @Test
+    public void ignores_CallsOutsideOfHandlers() {
+        final ExecutionAttributes attributes = attributes("DescribeLogGroups");
+
+        interceptor.beforeExecution(null, attributes);
+        interceptor.beforeTransmission(null, attributes);
+        interceptor.afterExecution(null, attributes);
+
+        final ApiCallMetrics metrics = ApiCallMetrics.start(ReadHandler.class);
+        assertThat(metrics.summary()).contains("\"operations\":{}");
+    }
+
+    private static Context.AfterTransmission response(final int statusCode, final String errorType) {
+        final SdkHttpResponse.Builder response = SdkHttpResponse.builder().statusCode(statusCode);
+        if (errorType != null) {
+            response.putHeader(MetricsInterceptor.ERROR_TYPE_HEADER, errorType);
+        }
+        final Context.AfterTransmission context = mock(Context.AfterTransmission.class);
+        when(context.httpResponse()).thenReturn(response.build());
+        return context;
+    }
+
+    private static ExecutionAttributes attributes(final String operationName) {
+        return new ExecutionAttributes().putAttribute(SdkExecutionAttribute.OPERATION_NAME, operationName);
+    }
+}
@@ -0,0 +1,44 @@
+package software.amazon.logs.loggroup;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RateLimitingInterceptorTest {
+
+    @Test
+    public void bucketFor_OneBucketPerApi() {
+        final RateLimitingInterceptor interceptor = new RateLimitingInterceptor();
+
+        assertThat(interceptor.bucketFor("DescribeLogGroups")).isSameAs(interceptor.bucketFor("DescribeLogGroups"));
+        assertThat(interceptor.bucketFor("DescribeLogGroups")).isNotSameAs(interceptor.bucketFor("ListTagsLogGroup"));
+    }
+
+    @Test
+    public void bucketFor_DefaultLimit() {
+        final RateLimitingInterceptor interceptor = new RateLimitingInterceptor();
+        final TokenBucket bucket = interceptor.bucketFor("DescribeLogGroups");
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(bucket.reserve()).isEqualTo(0);
+        }
+        assertThat(bucket.reserve()).isGreaterThan(0);
+    }
+
+    @Test
+    public void beforeTransmission_TakesTokenForApi() {
+        final RateLimitingInterceptor interceptor = new RateLimitingInterceptor(
+                Collections.singletonMap("PutRetentionPolicy", new RateLimitingInterceptor.RateLimit(1, 1)));
+        final ExecutionAttributes attributes = new ExecutionAttributes()
+                .putAttribute(SdkExecutionAttribute.OPERATION_NAME, "PutRetentionPolicy");
+
+        interceptor.beforeTransmission(null, attributes);
+
+        assertThat(interceptor.bucketFor("PutRetentionPolicy").reserve()).isGreaterThan(0);
+        assertThat(interceptor.bucketFor("DeleteRetentionPolicy").reserve()).isEqualTo(0);
+    }
+}
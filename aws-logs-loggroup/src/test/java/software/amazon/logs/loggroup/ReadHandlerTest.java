@@ -31,6 +31,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class ReadHandlerTest {
@@ -105,17 +107,12 @@ public class ReadHandlerTest {
                 .retentionInDays(1)
                 .kmsKeyId("arn:aws:kms:us-east-1:$123456789012:key/aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa")
                 .build();
-        final LogGroup logGroup2 = LogGroup.builder()
-                .logGroupName("LogGroup2")
-                .retentionInDays(2)
-                .kmsKeyId("arn:aws:kms:us-east-1:$123456789012:key/bbbbbbbb-bbbb-bbbb-bbbb-bbbbbbbbbbbb")
-                .build();
         final Set<Tag> tags = new HashSet<>(Arrays.asList(
                 Tag.builder().key("key-1").value("value-1").build(),
                 Tag.builder().key("key-2").value("value-2").build()
         ));
         final DescribeLogGroupsResponse describeResponse1 = DescribeLogGroupsResponse.builder()
-                .logGroups(Collections.nCopies(50, logGroup2))
+                .logGroups(Collections.emptyList())
                 .nextToken("token")
                 .build();
         final DescribeLogGroupsResponse describeResponse2 = DescribeLogGroupsResponse.builder()
@@ -154,6 +151,41 @@ public class ReadHandlerTest {
         assertThat(response.getResourceModel().getTags()).isEqualTo(tags);
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        verify(logger).log("Scanned 2 DescribeLogGroups page(s) for log group LogGroup");
+    }
+
+    @Test
+    public void handleRequest_FailureNotFound_StopsPastLogGroupName() {
+        final LogGroup logGroup2 = LogGroup.builder()
+                .logGroupName("LogGroup2")
+                .retentionInDays(2)
+                .build();
+        final DescribeLogGroupsResponse describeResponse = DescribeLogGroupsResponse.builder()
+                .logGroups(Collections.singletonList(logGroup2))
+                .nextToken("token")
+                .build();
+
+        doReturn(describeResponse)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(
+                        ArgumentMatchers.isA(DescribeLogGroupsRequest.class),
+                        ArgumentMatchers.any()
+                );
+
+        final ResourceModel model = ResourceModel.builder()
+                .logGroupName("LogGroup")
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> handler.handleRequest(proxy, request, null, logger));
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(
+                ArgumentMatchers.isA(DescribeLogGroupsRequest.class),
+                ArgumentMatchers.any()
+        );
     }
 
     @Test
@@ -0,0 +1,58 @@
+package software.amazon.logs.loggroup;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TagHelperTest {
+    private static final Map<String, String> PREVIOUS_TAGS = new HashMap<String, String>() {{
+        put("unchanged", "value");
+        put("changed", "old-value");
+        put("removed", "value");
+    }};
+
+    private static final Map<String, String> DESIRED_TAGS = new HashMap<String, String>() {{
+        put("unchanged", "value");
+        put("changed", "new-value");
+        put("added", "value");
+    }};
+
+    @Test
+    public void generateTags() {
+        assertThat(TagHelper.generateTagsToAdd(PREVIOUS_TAGS, DESIRED_TAGS)).containsOnly(
+            new HashMap.SimpleEntry<>("changed", "new-value"),
+            new HashMap.SimpleEntry<>("added", "value"));
+        assertThat(TagHelper.generateTagsToRemove(PREVIOUS_TAGS, DESIRED_TAGS)).containsOnly("removed");
+    }
+
+    @Test
+    public void generateTags_NoChange() {
+        final Map<String, String> desiredTags = new HashMap<>(PREVIOUS_TAGS);
+
+        assertThat(TagHelper.generateTagsToAdd(PREVIOUS_TAGS, desiredTags)).isEmpty();
+        assertThat(TagHelper.generateTagsToRemove(PREVIOUS_TAGS, desiredTags)).isEmpty();
+    }
+
+    @Test
+    public void generateTags_AddOnly() {
+        assertThat(TagHelper.generateTagsToAdd(Collections.emptyMap(), DESIRED_TAGS)).isEqualTo(DESIRED_TAGS);
+        assertThat(TagHelper.generateTagsToRemove(Collections.emptyMap(), DESIRED_TAGS)).isEmpty();
+    }
+
+    @Test
+    public void generateTagsToAdd_NullValues() {
+        final Map<String, String> previousTags = Collections.singletonMap("key", null);
+        final Map<String, String> desiredTags = new HashMap<String, String>() {{
+            put("key", null);
+            put("new-key", null);
+        }};
+
+        assertThat(TagHelper.generateTagsToAdd(previousTags, desiredTags)).containsOnlyKeys("new-key");
+        assertThat(TagHelper.generateTagsToAdd(previousTags, Collections.singletonMap("key", "value")))
+            .containsOnlyKeys("key");
+    }
+}
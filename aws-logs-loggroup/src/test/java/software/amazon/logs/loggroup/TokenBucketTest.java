@@ -0,0 +1,64 @@
+package software.amazon.logs.loggroup;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TokenBucketTest {
+
+    @Test
+    public void reserve_BurstIsFree() {
+        final AtomicLong clock = new AtomicLong();
+        final TokenBucket bucket = new TokenBucket(5, 2, clock::get);
+
+        assertThat(bucket.reserve()).isEqualTo(0);
+        assertThat(bucket.reserve()).isEqualTo(0);
+        assertThat(bucket.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+        assertThat(bucket.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(400));
+    }
+
+    @Test
+    public void reserve_RefillsOverTime() {
+        final AtomicLong clock = new AtomicLong();
+        final TokenBucket bucket = new TokenBucket(5, 1, clock::get);
+
+        assertThat(bucket.reserve()).isEqualTo(0);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(200));
+        assertThat(bucket.reserve()).isEqualTo(0);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertThat(bucket.reserve()).isEqualTo(0);
+        assertThat(bucket.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+    }
+
+    @Test
+    public void acquire_WaitsForToken() {
+        final TokenBucket bucket = new TokenBucket(100, 1);
+
+        final long start = System.nanoTime();
+        bucket.acquire();
+        bucket.acquire();
+
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(5));
+    }
+
+    @Test
+    public void acquire_Interrupted() {
+        final TokenBucket bucket = new TokenBucket(1, 1);
+        bucket.acquire();
+
+        Thread.currentThread().interrupt();
+        bucket.acquire();
+
+        assertThat(Thread.interrupted()).isTrue();
+    }
+
+    @Test
+    public void constructor_InvalidArguments() {
+        assertThatThrownBy(() -> new TokenBucket(0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucket(1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -27,6 +27,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @ExtendWith(MockitoExtension.class)
 public class TranslatorTest {
@@ -51,6 +52,7 @@ public class TranslatorTest {
     public void testTranslateToRead() {
         final DescribeLogGroupsRequest request = DescribeLogGroupsRequest.builder()
             .logGroupNamePrefix(RESOURCE_MODEL.getLogGroupName())
+            .limit(Translator.READ_PAGE_SIZE)
             .build();
         assertThat(Translator.translateToReadRequest(RESOURCE_MODEL, null)).isEqualToComparingFieldByField(request);
     }
@@ -219,6 +221,16 @@ public class TranslatorTest {
         assertThat(Translator.getMatchingLogGroup(response, "LogGroup")).isEqualToComparingFieldByField(logGroup);
     }
 
+    @Test
+    public void testIsPastLogGroup() {
+        final DescribeLogGroupsResponse response = DescribeLogGroupsResponse.builder()
+                .logGroups(LogGroup.builder().logGroupName("LogGroup2").build())
+                .build();
+        assertThat(Translator.isPastLogGroup(response, "LogGroup")).isTrue();
+        assertThat(Translator.isPastLogGroup(response, "LogGroup2")).isFalse();
+        assertThat(Translator.isPastLogGroup(DescribeLogGroupsResponse.builder().build(), "LogGroup")).isFalse();
+    }
+
     @Test
     public void testGetMatchingLogGroup_Null() {
         final LogGroup logGroup = LogGroup.builder()
@@ -255,6 +267,15 @@ public class TranslatorTest {
         assertThat(Translator.translateTagsToSdk(Collections.emptySet())).isNull();
     }
 
+    @Test
+    public void translateTagsToSdk_DuplicateKey() {
+        final Set<Tag> tags = new HashSet<>(Arrays.asList(
+            Tag.builder().key("key").value("value-1").build(),
+            Tag.builder().key("key").value("value-2").build()));
+
+        assertThatThrownBy(() -> Translator.translateTagsToSdk(tags)).isInstanceOf(IllegalStateException.class);
+    }
+
     @Test
     public void translateSdkToTags() {
         assertThat(Translator.translateSdkToTags(MAP_TAGS)).isEqualTo(SET_TAGS);
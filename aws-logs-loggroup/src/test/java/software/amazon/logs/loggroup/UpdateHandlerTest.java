@@ -745,6 +745,41 @@ public class UpdateHandlerTest {
             () -> handler.handleRequest(proxy, request, null, logger));
     }
 
+    @Test
+    public void handleRequest_AssociateKms_OperationAborted_TagsNotUpdated() {
+        final PutRetentionPolicyResponse putRetentionPolicyResponse = PutRetentionPolicyResponse.builder().build();
+        doReturn(putRetentionPolicyResponse)
+            .when(proxy)
+            .injectCredentialsAndInvokeV2(
+                ArgumentMatchers.isA(PutRetentionPolicyRequest.class),
+                any()
+            );
+        doThrow(software.amazon.awssdk.services.cloudwatchlogs.model.OperationAbortedException.class)
+            .when(proxy)
+            .injectCredentialsAndInvokeV2(
+                ArgumentMatchers.isA(AssociateKmsKeyRequest.class),
+                any()
+            );
+
+        final ResourceModel model = ResourceModel.builder()
+            .logGroupName("LogGroup")
+            .retentionInDays(1)
+            .kmsKeyId("arn:aws:kms:us-east-1:$123456789012:key/aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa")
+            .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(ResourceModel.builder().logGroupName("LogGroup").build())
+            .desiredResourceState(model)
+            .desiredResourceTags(Collections.singletonMap("key-1", "value-1"))
+            .build();
+
+        assertThrows(software.amazon.cloudformation.exceptions.CfnResourceConflictException.class,
+            () -> handler.handleRequest(proxy, request, null, logger));
+        verify(proxy).injectCredentialsAndInvokeV2(ArgumentMatchers.isA(PutRetentionPolicyRequest.class), any());
+        verify(proxy, times(0)).injectCredentialsAndInvokeV2(ArgumentMatchers.isA(ListTagsLogGroupRequest.class), any());
+        verify(proxy, times(0)).injectCredentialsAndInvokeV2(ArgumentMatchers.isA(TagLogGroupRequest.class), any());
+    }
+
     @Test
     public void handleRequest_AssociateKms_ServiceUnavailable_ServiceException() {
         final PutRetentionPolicyResponse putRetentionPolicyResponse = PutRetentionPolicyResponse.builder().build();
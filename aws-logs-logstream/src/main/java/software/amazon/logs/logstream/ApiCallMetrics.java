@@ -0,0 +1,187 @@
+package software.amazon.logs.logstream;
+
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the CloudWatch Logs calls made by one handler invocation.
+ *
+ * A handler starts a recorder when it is invoked and finishes it when it returns, which logs a single
+ * summary line with the number of calls, retries, throttled attempts, errors and a latency histogram per API.
+ * {@link MetricsInterceptor} attributes each call to the recorder started on the thread issuing it.
+ *
+ * {@link BaseHandlerStd} starts the recorder around every handler. Reads and existence checks answered
+ * from {@link LogStreamSnapshot} make no call, so a summary without DescribeLogStreams is expected.
+ */
+final class ApiCallMetrics {
+    static final String SUMMARY_PREFIX = "ApiCallMetrics ";
+
+    /**
+     * Upper bounds, inclusive, of the latency histogram buckets. Slower calls fall in a last, unbounded bucket.
+     */
+    static final long[] LATENCY_BUCKETS_MILLIS = {10, 25, 50, 100, 250, 500, 1000, 2500, 5000};
+
+    private static final ThreadLocal<ApiCallMetrics> CURRENT = new ThreadLocal<>();
+
+    private final String action;
+    private final long startNanos = System.nanoTime();
+    private final Map<String, OperationMetrics> operations = new TreeMap<>();
+
+    ApiCallMetrics(final String action) {
+        this.action = action;
+    }
+
+    /**
+     * Starts recording the calls made on this thread.
+     *
+     * @param handlerClass the handler being invoked, e.g. CreateHandler
+     * @return the recorder to {@link #finish} once the handler returns
+     */
+    static ApiCallMetrics start(final Class<?> handlerClass) {
+        final ApiCallMetrics metrics = new ApiCallMetrics(actionName(handlerClass));
+        CURRENT.set(metrics);
+        return metrics;
+    }
+
+    /**
+     * @return the recorder started on this thread, or null outside of a handler invocation
+     */
+    static ApiCallMetrics current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * @return the handler action, e.g. AWS-Logs-LogStream::Create for CreateHandler
+     */
+    static String actionName(final Class<?> handlerClass) {
+        return ResourceModel.TYPE_NAME.replace("::", "-") + "::" + handlerClass.getSimpleName().replace("Handler", "");
+    }
+
+    /**
+     * Stops recording and logs the summary line.
+     */
+    void finish(final Logger logger) {
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+        logger.log(SUMMARY_PREFIX + summary());
+    }
+
+    /**
+     * Records an attempt to send a request, which includes every retry of the call.
+     */
+    synchronized void recordAttempt(final String operationName) {
+        operation(operationName).attempts++;
+    }
+
+    /**
+     * Records an attempt that was throttled, whether or not a retry of the call then succeeded.
+     */
+    synchronized void recordThrottle(final String operationName) {
+        operation(operationName).throttles++;
+    }
+
+    /**
+     * Records a completed call, after any retries.
+     *
+     * @param latencyNanos time spent in the SDK, including retries and backoff
+     * @param failed whether the call threw
+     */
+    synchronized void recordCall(final String operationName,
+                                 final long latencyNanos,
+                                 final boolean failed) {
+        final OperationMetrics metrics = operation(operationName);
+        final long latencyMillis = TimeUnit.NANOSECONDS.toMillis(latencyNanos);
+        metrics.calls++;
+        metrics.errors += failed ? 1 : 0;
+        metrics.totalMillis += latencyMillis;
+        metrics.maxMillis = Math.max(metrics.maxMillis, latencyMillis);
+        metrics.histogram[bucket(latencyMillis)]++;
+    }
+
+    /**
+     * @return the recorded metrics as a single line of JSON
+     */
+    synchronized String summary() {
+        long calls = 0;
+        long retries = 0;
+        long throttles = 0;
+        long errors = 0;
+        final StringBuilder perOperation = new StringBuilder();
+        for (final Map.Entry<String, OperationMetrics> entry : operations.entrySet()) {
+            final OperationMetrics metrics = entry.getValue();
+            calls += metrics.calls;
+            retries += metrics.retries();
+            throttles += metrics.throttles;
+            errors += metrics.errors;
+            if (perOperation.length() > 0) {
+                perOperation.append(',');
+            }
+            perOperation.append('"').append(entry.getKey()).append("\":");
+            metrics.appendTo(perOperation);
+        }
+
+        return "{\"action\":\"" + action + "\""
+            + ",\"durationMillis\":" + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)
+            + ",\"calls\":" + calls
+            + ",\"retries\":" + retries
+            + ",\"throttles\":" + throttles
+            + ",\"errors\":" + errors
+            + ",\"operations\":{" + perOperation + "}}";
+    }
+
+    private OperationMetrics operation(final String operationName) {
+        return operations.computeIfAbsent(operationName, name -> new OperationMetrics());
+    }
+
+    private static int bucket(final long latencyMillis) {
+        for (int i = 0; i < LATENCY_BUCKETS_MILLIS.length; i++) {
+            if (latencyMillis <= LATENCY_BUCKETS_MILLIS[i]) {
+                return i;
+            }
+        }
+        return LATENCY_BUCKETS_MILLIS.length;
+    }
+
+    private static final class OperationMetrics {
+        private long attempts;
+        private long calls;
+        private long throttles;
+        private long errors;
+        private long totalMillis;
+        private long maxMillis;
+        private final long[] histogram = new long[LATENCY_BUCKETS_MILLIS.length + 1];
+
+        private long retries() {
+            return Math.max(0, attempts - calls);
+        }
+
+        private void appendTo(final StringBuilder json) {
+            json.append("{\"calls\":").append(calls)
+                .append(",\"retries\":").append(retries())
+                .append(",\"throttles\":").append(throttles)
+                .append(",\"errors\":").append(errors)
+                .append(",\"totalMillis\":").append(totalMillis)
+                .append(",\"maxMillis\":").append(maxMillis)
+                .append(",\"latencyMillis\":{");
+            boolean first = true;
+            for (int i = 0; i < histogram.length; i++) {
+                if (histogram[i] == 0) {
+                    continue;
+                }
+                if (!first) {
+                    json.append(',');
+                }
+                first = false;
+                final String bucket = i < LATENCY_BUCKETS_MILLIS.length
+                    ? "le" + LATENCY_BUCKETS_MILLIS[i]
+                    : "gt" + LATENCY_BUCKETS_MILLIS[LATENCY_BUCKETS_MILLIS.length - 1];
+                json.append('"').append(bucket).append("\":").append(histogram[i]);
+            }
+            json.append("}}");
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package software.amazon.logs.logstream;
 
-import org.apache.commons.collections.CollectionUtils;
-
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
 import software.amazon.awssdk.services.cloudwatchlogs.model.CloudWatchLogsRequest;
@@ -14,6 +12,8 @@ import software.amazon.cloudformation.exceptions.*;
 
 import software.amazon.cloudformation.proxy.*;
 
+import java.util.function.Consumer;
+
 import static java.util.Objects.requireNonNull;
 
 import com.amazonaws.event.request.Progress;
@@ -45,13 +45,18 @@ private final static String RESOURCE_NOT_FOUND_EXCEPTION = "ResourceNotFoundExce
     final ResourceHandlerRequest<ResourceModel> request,
     final CallbackContext callbackContext,
     final Logger logger) {
-    return handleRequest(
-      proxy,
-      request,
-      callbackContext != null ? callbackContext : new CallbackContext(),
-      proxy.newProxy(ClientBuilder::getClient),
-      logger
-    );
+    final ApiCallMetrics metrics = ApiCallMetrics.start(getClass());
+    try {
+      return handleRequest(
+        proxy,
+        request,
+        callbackContext != null ? callbackContext : new CallbackContext(),
+        proxy.newProxy(ClientBuilder::getClient),
+        logger
+      );
+    } finally {
+      metrics.finish(logger);
+    }
   }
 
   protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -63,19 +68,12 @@ private final static String RESOURCE_NOT_FOUND_EXCEPTION = "ResourceNotFoundExce
 
   protected ProgressEvent<ResourceModel, CallbackContext> doesResourceExistwithName(final ProxyClient<CloudWatchLogsClient> proxyClient, final ResourceModel model, final CallbackContext callbackContext)
           throws AwsServiceException {
-    final DescribeLogStreamsRequest translateToReadRequest = Translator.translateToReadRequest(model);
-    final DescribeLogStreamsResponse response;
     try {
-      response = proxyClient.injectCredentialsAndInvokeV2(translateToReadRequest, proxyClient.client()::describeLogStreams);
-      if(CollectionUtils.isEmpty(response.logStreams())){
-        // Log Stream does not exist so return InProgress Event
-        return ProgressEvent.progress(model, callbackContext);
-      }
-      final LogStream logStream = response.logStreams().get(0);
-      if(logStream.logStreamName().equals(model.getLogStreamName())){
+      if (findLogStream(proxyClient, Translator.translateToReadRequest(model), model.getLogStreamName()) != null) {
         // Log Stream does exist so return Failed
         return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.AlreadyExists, String.format("Log Stream Already Exists"));
       }
+      // Log Stream does not exist so return InProgress Event
       return ProgressEvent.progress(model, callbackContext);
     } catch (final AwsServiceException e) {
       BaseHandlerException newException = Translator.translateException(e);
@@ -86,6 +84,72 @@ private final static String RESOURCE_NOT_FOUND_EXCEPTION = "ResourceNotFoundExce
     }
   }
 
+  /**
+   * Looks the log stream up by exact name. The read request lists the log streams sharing its name as prefix in
+   * name order, so the log stream comes before all of them: paging stops at the first entry that is not the log
+   * stream, which is on the first page unless the service returns empty pages.
+   *
+   * @param readRequest the first request, see {@link Translator#translateToReadRequest(ResourceModel)}
+   * @return the log stream, or null if it does not exist
+   */
+  protected static LogStream findLogStream(final ProxyClient<CloudWatchLogsClient> proxyClient,
+                                           final DescribeLogStreamsRequest readRequest,
+                                           final String logStreamName) {
+    if (logStreamName == null) {
+      return null;
+    }
+    DescribeLogStreamsRequest awsRequest = readRequest;
+    while (true) {
+      final DescribeLogStreamsResponse response =
+              proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::describeLogStreams);
+      if (response == null) {
+        return null;
+      }
+      for (final LogStream logStream : response.logStreams()) {
+        final int order = logStream.logStreamName().compareTo(logStreamName);
+        if (order == 0) {
+          return logStream;
+        }
+        if (order > 0) {
+          // past the name, it is not in the log group
+          return null;
+        }
+      }
+      if (response.nextToken() == null) {
+        return null;
+      }
+      awsRequest = awsRequest.toBuilder()
+              .nextToken(response.nextToken())
+              .build();
+    }
+  }
+
+  /**
+   * Probes for the log stream of the model with a single DescribeLogStreams call.
+   *
+   * @param onVisible takes the log stream as described, if it is visible
+   * @return whether the log stream is visible, or null if the call failed, e.g. because it was throttled
+   */
+  protected Boolean probeLogStream(final ProxyClient<CloudWatchLogsClient> proxyClient,
+                                   final ResourceModel model,
+                                   final Logger logger,
+                                   final Consumer<LogStream> onVisible) {
+    try {
+      final LogStream logStream = findLogStream(proxyClient, Translator.translateToReadRequest(model), model.getLogStreamName());
+      if (logStream == null) {
+        return false;
+      }
+      onVisible.accept(logStream);
+      return true;
+    } catch (final ResourceNotFoundException e) {
+      // the log group does not exist, so neither does the log stream
+      return false;
+    } catch (final AwsServiceException e) {
+      logger.log(String.format("Probing for log stream %s failed: %s", model.getLogStreamName(), e.getMessage()));
+      return null;
+    }
+  }
+
   //  handleErrors
   protected ProgressEvent<ResourceModel, CallbackContext> handleError(
           final CloudWatchLogsRequest request,
@@ -103,6 +167,8 @@ private final static String RESOURCE_NOT_FOUND_EXCEPTION = "ResourceNotFoundExce
         ex = new CfnServiceInternalErrorException(e);
       } else if (e instanceof LimitExceededException){
         ex = new CfnServiceLimitExceededException(e);
+      } else if (e instanceof ResourceAlreadyExistsException) {
+        ex = new CfnAlreadyExistsException(e);
       } else {
         ex = new CfnGeneralServiceException(e);
       }
@@ -1,5 +1,6 @@
 package software.amazon.logs.logstream;
 
+import com.google.common.annotations.VisibleForTesting;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.core.internal.retry.SdkDefaultRetrySetting;
 import software.amazon.awssdk.core.retry.RetryPolicy;
@@ -7,12 +8,29 @@ import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
 import software.amazon.awssdk.core.retry.backoff.EqualJitterBackoffStrategy;
 import software.amazon.awssdk.core.retry.conditions.RetryCondition;
 import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClientBuilder;
 import software.amazon.cloudformation.LambdaWrapper;
 
+import java.net.URI;
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class ClientBuilder {
-  private static CloudWatchLogsClient cloudWatchLogsClient;
+  static final String ENDPOINT_OVERRIDE_PROPERTY = "software.amazon.logs.endpointOverride";
+
+  private static final AtomicInteger CLIENTS_BUILT = new AtomicInteger();
+
+  private static volatile CloudWatchLogsClient cloudWatchLogsClient;
+
+  /**
+   * Log stream APIs have higher limits than the default of 5 TPS for control plane APIs.
+   */
+  private static final RateLimitingInterceptor RATE_LIMITER = new RateLimitingInterceptor(logStreamLimits());
+
+  private static final MetricsInterceptor METRICS = new MetricsInterceptor();
 
   private static final BackoffStrategy BACKOFF_STRATEGY =
           EqualJitterBackoffStrategy.builder()
@@ -27,16 +45,64 @@ public class ClientBuilder {
                   .throttlingBackoffStrategy(BACKOFF_STRATEGY)
                   .build();
 
+  /**
+   * Returns the container wide CloudWatchLogsClient, building it on first use.
+   *
+   * Both the handler constructors and proxy.newProxy(ClientBuilder::getClient) call this on every
+   * request, so the client is cached with double-checked locking: warm invocations pay no
+   * client construction cost and concurrent first calls cannot build more than one client.
+   *
+   * @return a CloudWatchLogsClient
+   */
   public static CloudWatchLogsClient getClient() {
-    if (cloudWatchLogsClient == null) {
-      return CloudWatchLogsClient.builder()
-              .httpClient(LambdaWrapper.HTTP_CLIENT)
-              .overrideConfiguration(ClientOverrideConfiguration.builder()
-                      .retryPolicy(RETRY_POLICY)
-                      .apiCallTimeout(Duration.ofSeconds(55))
-                      .build())
-              .build();
+    CloudWatchLogsClient client = cloudWatchLogsClient;
+    if (client == null) {
+      synchronized (ClientBuilder.class) {
+        client = cloudWatchLogsClient;
+        if (client == null) {
+          client = buildClient();
+          cloudWatchLogsClient = client;
+        }
+      }
     }
-    return cloudWatchLogsClient;
+    return client;
+  }
+
+  /**
+   * @return the number of clients built by this container so far
+   */
+  @VisibleForTesting
+  static int getClientsBuilt() {
+    return CLIENTS_BUILT.get();
+  }
+
+  @VisibleForTesting
+  static Map<String, RateLimitingInterceptor.RateLimit> logStreamLimits() {
+    final Map<String, RateLimitingInterceptor.RateLimit> limits = new HashMap<>();
+    limits.put("CreateLogStream", new RateLimitingInterceptor.RateLimit(50, 50));
+    limits.put("DeleteLogStream", new RateLimitingInterceptor.RateLimit(15, 15));
+    return limits;
+  }
+
+  private static CloudWatchLogsClient buildClient() {
+    CLIENTS_BUILT.incrementAndGet();
+    final CloudWatchLogsClientBuilder builder = CloudWatchLogsClient.builder()
+            .httpClient(LambdaWrapper.HTTP_CLIENT)
+            .overrideConfiguration(ClientOverrideConfiguration.builder()
+                    .retryPolicy(RETRY_POLICY)
+                    .apiCallTimeout(Duration.ofSeconds(55))
+                    .addExecutionInterceptor(METRICS)
+                    .addExecutionInterceptor(RATE_LIMITER)
+                    .build());
+    endpointOverride().ifPresent(builder::endpointOverride);
+    return builder.build();
+  }
+
+  /**
+   * Points the clients at a stand-in for CloudWatch Logs, e.g. the fake service used by the benchmarks.
+   * The property is never set when running in Lambda.
+   */
+  private static Optional<URI> endpointOverride() {
+    return Optional.ofNullable(System.getProperty(ENDPOINT_OVERRIDE_PROPERTY)).map(URI::create);
   }
 }
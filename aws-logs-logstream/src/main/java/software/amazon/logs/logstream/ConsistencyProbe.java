@@ -0,0 +1,66 @@
+package software.amazon.logs.logstream;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Waits for a log stream change to become visible by polling for it.
+ *
+ * CloudWatch Logs is eventually consistent, so a log stream that was just created or deleted may not show
+ * up as such in DescribeLogStreams right away. Rather than always waiting out the worst case, the probe
+ * checks right away and then at intervals starting at {@link #FIRST_INTERVAL} and doubling up to
+ * {@link #MAX_INTERVAL}, and returns as soon as the change is visible. It gives up once the intervals would
+ * add up to more than its budget, or as soon as a check fails, after which the handler falls back to a
+ * callback delay. A failed check is usually a throttled one, and checking again right away would only add
+ * to the throttling.
+ */
+final class ConsistencyProbe {
+    static final Duration FIRST_INTERVAL = Duration.ofMillis(100);
+    static final Duration MAX_INTERVAL = Duration.ofSeconds(2);
+
+    // As long as the fixed delay the handlers used to wait
+    static final Duration DEFAULT_BUDGET = Duration.ofSeconds(BaseHandlerStd.EVENTUAL_CONSISTENCY_DELAY_SECONDS);
+
+    private final Duration budget;
+    private final Sleeper sleeper;
+
+    ConsistencyProbe() {
+        this(DEFAULT_BUDGET, TimeUnit.MILLISECONDS::sleep);
+    }
+
+    ConsistencyProbe(final Duration budget, final Sleeper sleeper) {
+        this.budget = budget;
+        this.sleeper = sleeper;
+    }
+
+    /**
+     * @param consistent checks whether the change is visible, with a single DescribeLogStreams call, and returns
+     *                   null if the call failed
+     * @return whether the change became visible within the budget
+     */
+    boolean await(final Supplier<Boolean> consistent) {
+        long sleptMillis = 0;
+        long intervalMillis = FIRST_INTERVAL.toMillis();
+        Boolean visible;
+        while (!Boolean.TRUE.equals(visible = consistent.get())) {
+            if (visible == null || sleptMillis + intervalMillis > budget.toMillis()) {
+                return false;
+            }
+            try {
+                sleeper.sleep(intervalMillis);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            sleptMillis += intervalMillis;
+            intervalMillis = Math.min(intervalMillis * 2, MAX_INTERVAL.toMillis());
+        }
+        return true;
+    }
+
+    @FunctionalInterface
+    interface Sleeper {
+        void sleep(long millis) throws InterruptedException;
+    }
+}
@@ -28,10 +28,20 @@ public class CreateHandler extends BaseHandlerStd {
     private static final String DEFAULT_LOGSTREAMNAME_PREFIX = "LogStreamName";
     private static final int LOGSTREAM_NAME_MAX_LENGTH = 512;
 
-        // * doesResourceWithNameExist
+    private final ConsistencyProbe consistencyProbe;
+
+    public CreateHandler() {
+        this(new ConsistencyProbe());
+    }
+
+    CreateHandler(final ConsistencyProbe consistencyProbe) {
+        this.consistencyProbe = consistencyProbe;
+    }
+
+        // * doesResourceWithNameExist, from the snapshot of the log group when possible
         // * waitForCreate
         // * doPostCreate
-        // * pauseWorkflow (10 secs)
+        // * probeForLogStream, pauseWorkflow (10 secs) if it is not visible yet
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -67,7 +77,7 @@ public class CreateHandler extends BaseHandlerStd {
             .then(progress -> {
                 if(progress.getCallbackContext().isItFirstTime()) {
                     progress.getCallbackContext().setItFirstTime(false);
-                    return doesResourceExistwithName(proxyClient, model, callbackContext);
+                    return checkLogStreamName(proxyClient, request, model, callbackContext);
                 }
                 else
                     return progress;
@@ -78,6 +88,12 @@ public class CreateHandler extends BaseHandlerStd {
                         logger.log("Propagation delay completed");
                         return ProgressEvent.progress(progress.getResourceModel(), progress.getCallbackContext());
                     }
+                    // the log stream as probed, with its attributes, answers the read below
+                    if (consistencyProbe.await(() -> probeLogStream(proxyClient, model, logger,
+                            logStream -> LogStreamSnapshot.recordDescribed(request, model.getLogGroupName(), logStream)))) {
+                        logger.log("Log stream is visible");
+                        return ProgressEvent.progress(progress.getResourceModel(), progress.getCallbackContext());
+                    }
                     progress.getCallbackContext().setPropagationDelay(true);
                     logger.log("Setting propagation delay");
                    return ProgressEvent.defaultInProgressHandler(progress.getCallbackContext(),
@@ -104,7 +120,35 @@ public class CreateHandler extends BaseHandlerStd {
                 .translateToServiceRequest(cbModel -> Translator.translateToCreateRequest(cbModel))
                 .makeServiceCall((cbRequest, cbProxyClient) -> cbProxyClient.injectCredentialsAndInvokeV2(cbRequest, cbProxyClient.client()::createLogStream))
                 .handleError((cbRequest, exception, cbProxyClient, cbModel, cbContext) -> handleError(cbRequest, exception, cbProxyClient, cbModel, cbContext))
-                .done((cbRequest, cbResponse, cbClient, cbModel, cbContext) -> ProgressEvent.progress(cbModel, cbContext));
+                .done((cbRequest, cbResponse, cbClient, cbModel, cbContext) -> {
+                    LogStreamSnapshot.recordCreated(request, cbModel);
+                    return ProgressEvent.progress(cbModel, cbContext);
+                });
+    }
+
+    /**
+     * Checks that no log stream of the model's name exists yet. The snapshot of the log group answers when it is
+     * complete and does not hold the name; otherwise the log stream is described on its own.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> checkLogStreamName(final ProxyClient<CloudWatchLogsClient> proxyClient,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final ResourceModel model,
+            final CallbackContext context) {
+        final LogStreamSnapshot snapshot;
+        try {
+            snapshot = LogStreamSnapshot.cachedOrScan(proxyClient, request, model.getLogGroupName(),
+                    LogStreamSnapshot.EXISTENCE_CHECK_MAX_AGE);
+        } catch (final ResourceNotFoundException e) {
+            // the log group does not exist, so neither does the log stream
+            return ProgressEvent.progress(model, context);
+        } catch (final AwsServiceException e) {
+            logger.log(String.format("Scanning log group %s failed: %s", model.getLogGroupName(), e.getMessage()));
+            return doesResourceExistwithName(proxyClient, model, context);
+        }
+        if (snapshot.isComplete() && !snapshot.contains(model.getLogStreamName())) {
+            return ProgressEvent.progress(model, context);
+        }
+        return doesResourceExistwithName(proxyClient, model, context);
     }
 
     @VisibleForTesting
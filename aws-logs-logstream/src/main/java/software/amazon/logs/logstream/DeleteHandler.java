@@ -19,6 +19,15 @@ import software.amazon.cloudformation.proxy.delay.Constant;
 
 public class DeleteHandler extends BaseHandlerStd {
     private Logger logger;
+    private final ConsistencyProbe consistencyProbe;
+
+    public DeleteHandler() {
+        this(new ConsistencyProbe());
+    }
+
+    DeleteHandler(final ConsistencyProbe consistencyProbe) {
+        this.consistencyProbe = consistencyProbe;
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -49,6 +58,13 @@ public class DeleteHandler extends BaseHandlerStd {
                             logger.log("Propagation delay completed");
                             return ProgressEvent.progress(progress.getResourceModel(), progress.getCallbackContext());
                         }
+                        if (consistencyProbe.await(() -> {
+                                final Boolean visible = probeLogStream(proxyClient, model, logger, logStream -> { });
+                                return visible == null ? null : !visible;
+                        })) {
+                            logger.log("Log stream is gone");
+                            return ProgressEvent.progress(progress.getResourceModel(), progress.getCallbackContext());
+                        }
                         progress.getCallbackContext().setPropagationDelay(true);
                         logger.log("Setting propagation delay");
                         return ProgressEvent.defaultInProgressHandler(progress.getCallbackContext(),
@@ -76,7 +92,10 @@ public class DeleteHandler extends BaseHandlerStd {
                 .translateToServiceRequest(cbModel -> Translator.translateToDeleteRequest(cbModel))
                 .makeServiceCall((cbRequest, cbProxyClient) -> proxyClient.injectCredentialsAndInvokeV2(cbRequest, cbProxyClient.client()::deleteLogStream))
                 .handleError((cbRequest, exception, cbProxyClient, cbModel, cbContext) -> handleError(cbRequest, exception, cbProxyClient, cbModel, cbContext))
-                .done((cbRequest, cbResponse, cbClient, cbModel, cbContext) -> ProgressEvent.progress(cbModel, cbContext));
+                .done((cbRequest, cbResponse, cbClient, cbModel, cbContext) -> {
+                    LogStreamSnapshot.recordDeleted(request, cbModel);
+                    return ProgressEvent.progress(cbModel, cbContext);
+                });
     }
 
 }
@@ -1,6 +1,9 @@
 package software.amazon.logs.logstream;
 
 import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogStreamsRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogStreamsResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.LogStream;
 import software.amazon.cloudformation.proxy.*;
 
 import java.util.List;
@@ -10,6 +13,12 @@ import java.util.ArrayList;
 import com.amazonaws.util.StringUtils;
 
 public class ListHandler extends BaseHandlerStd {
+    // DescribeLogStreams returns at most 50 log streams per call
+    static final int MAX_DESCRIBE_LIMIT = 50;
+
+    // Log streams listed per invocation, so large log groups take fewer round trips through CloudFormation.
+    // Bounds the DescribeLogStreams calls of one invocation to PAGE_SIZE / MAX_DESCRIBE_LIMIT.
+    static final int PAGE_SIZE = 500;
 
     @Override
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -31,17 +40,45 @@ public class ListHandler extends BaseHandlerStd {
         }
 
         return proxy.initiate("AWS-Logs-LogStream::List", proxyClient, model, callbackContext)
-                .translateToServiceRequest((cbModel) -> Translator.translateToListRequest(cbModel, nextToken))
-                .makeServiceCall((listFiltersRequest, _proxyClient) -> _proxyClient.injectCredentialsAndInvokeV2(listFiltersRequest, _proxyClient.client()::describeLogStreams))
+                .translateToServiceRequest((cbModel) -> Translator.translateToListRequest(cbModel, nextToken, MAX_DESCRIBE_LIMIT))
+                .makeServiceCall((listStreamsRequest, _proxyClient) -> listPage(listStreamsRequest, _proxyClient))
                 .handleError((cbRequest, exception, cbProxyClient, cbModel, cbContext) -> handleError(cbRequest, exception, cbProxyClient, cbModel, cbContext))
                 .done((describeLogStreamsRequest, describeLogStreamsResponse, client, _model, _callbackContext) -> {
                     final List<ResourceModel> modelList = Translator.translateFromListResponse(describeLogStreamsResponse, _model);
                     return ProgressEvent.<ResourceModel, CallbackContext>builder()
                             .resourceModels(modelList)
-                            .nextToken(nextToken)
+                            .nextToken(describeLogStreamsResponse.nextToken())
                             .status(OperationStatus.SUCCESS)
                             .build();
                 });
 
     }
+
+    /**
+     * Describes log streams until the page is full or the log group is exhausted. Every call after the first asks
+     * for no more than the page still holds, so the next token of the last call resumes right after the page.
+     *
+     * @return the log streams of the page, with the next token of the last call
+     */
+    private DescribeLogStreamsResponse listPage(
+            final DescribeLogStreamsRequest firstRequest,
+            final ProxyClient<CloudWatchLogsClient> proxyClient) {
+        final List<LogStream> logStreams = new ArrayList<>();
+        DescribeLogStreamsRequest awsRequest = firstRequest;
+        DescribeLogStreamsResponse awsResponse;
+        int calls = 0;
+        do {
+            awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::describeLogStreams);
+            logStreams.addAll(awsResponse.logStreams());
+            awsRequest = awsRequest.toBuilder()
+                    .nextToken(awsResponse.nextToken())
+                    .limit(Math.min(PAGE_SIZE - logStreams.size(), MAX_DESCRIBE_LIMIT))
+                    .build();
+        } while (awsResponse.nextToken() != null && logStreams.size() < PAGE_SIZE
+                && ++calls < PAGE_SIZE / MAX_DESCRIBE_LIMIT);
+
+        return awsResponse.toBuilder()
+                .logStreams(logStreams)
+                .build();
+    }
 }
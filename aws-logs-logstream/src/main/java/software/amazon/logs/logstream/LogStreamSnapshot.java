@@ -0,0 +1,238 @@
+package software.amazon.logs.logstream;
+
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogStreamsResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.LogStream;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The log streams of a log group, read with a single call to DescribeLogStreams.
+ *
+ * Stacks that fan out per shard or per tenant declare hundreds of log streams in the same log group, and
+ * their creates land on the same warm containers one after the other. Rather than describing each log
+ * stream on its own, the handlers scan the log group once and answer the existence and read checks of the
+ * following invocations from the snapshot, which is cached per account, region and log group. Creates and
+ * deletes made by this container are applied to the cached snapshot.
+ *
+ * Log groups holding more log streams than one page of DescribeLogStreams returns are not scanned any further.
+ * Their snapshot is incomplete and only tells that the log group is too large, so while it is cached the handlers
+ * describe the log stream on its own instead of scanning again.
+ */
+final class LogStreamSnapshot {
+    // DescribeLogStreams returns at most 50 log streams per call
+    static final int SCAN_LIMIT = 50;
+    static final int MAX_CACHED_LOG_GROUPS = 64;
+
+    /**
+     * How old a snapshot may be to tell a create that its log stream does not exist yet. Staleness is safe here:
+     * CreateLogStream still fails for a log stream created elsewhere since, and a log stream the snapshot holds
+     * is confirmed with a describe of its own.
+     */
+    static final Duration EXISTENCE_CHECK_MAX_AGE = Duration.ofSeconds(60);
+
+    // How long ago a log stream may have been described to answer a read, which returns its attributes as is
+    static final Duration READ_MAX_AGE = Duration.ofSeconds(5);
+
+    private static final Map<String, LogStreamSnapshot> CACHE =
+            new LinkedHashMap<String, LogStreamSnapshot>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<String, LogStreamSnapshot> eldest) {
+                    return size() > MAX_CACHED_LOG_GROUPS;
+                }
+            };
+
+    private final Map<String, LogStream> logStreams;
+    // When each log stream with attributes was described, by the scan or on its own
+    private final Map<String, Long> describedAtNanos;
+    private final boolean complete;
+    private final long scannedAtNanos;
+
+    private LogStreamSnapshot(final Map<String, LogStream> logStreams,
+                              final Map<String, Long> describedAtNanos,
+                              final boolean complete,
+                              final long scannedAtNanos) {
+        this.logStreams = Collections.unmodifiableMap(logStreams);
+        this.describedAtNanos = Collections.unmodifiableMap(describedAtNanos);
+        this.complete = complete;
+        this.scannedAtNanos = scannedAtNanos;
+    }
+
+    /**
+     * Reads the first {@link #SCAN_LIMIT} log streams of the log group. The snapshot is complete if they are all
+     * of them.
+     */
+    static LogStreamSnapshot scan(final ProxyClient<CloudWatchLogsClient> proxyClient, final String logGroupName) {
+        final long scannedAtNanos = System.nanoTime();
+        final ResourceModel logGroup = ResourceModel.builder()
+                .logGroupName(logGroupName)
+                .build();
+        final DescribeLogStreamsResponse response = proxyClient.injectCredentialsAndInvokeV2(
+                Translator.translateToListRequest(logGroup, null, SCAN_LIMIT),
+                proxyClient.client()::describeLogStreams);
+        final Map<String, LogStream> logStreams = new LinkedHashMap<>();
+        final Map<String, Long> describedAtNanos = new HashMap<>();
+        for (final LogStream logStream : response.logStreams()) {
+            logStreams.put(logStream.logStreamName(), logStream);
+            describedAtNanos.put(logStream.logStreamName(), scannedAtNanos);
+        }
+        return new LogStreamSnapshot(logStreams, describedAtNanos, response.nextToken() == null, scannedAtNanos);
+    }
+
+    /**
+     * @return the cached snapshot of the request's account, region and log group if it is no older than maxAge,
+     * otherwise a fresh scan, which is cached in turn
+     */
+    static LogStreamSnapshot cachedOrScan(final ProxyClient<CloudWatchLogsClient> proxyClient,
+                                          final ResourceHandlerRequest<ResourceModel> request,
+                                          final String logGroupName,
+                                          final Duration maxAge) {
+        final LogStreamSnapshot cached = cached(request, logGroupName, maxAge);
+        if (cached != null) {
+            return cached;
+        }
+        final LogStreamSnapshot snapshot = scan(proxyClient, logGroupName);
+        cache(request, logGroupName, snapshot);
+        return snapshot;
+    }
+
+    /**
+     * @return the cached snapshot of the request's account, region and log group, or null if there is none
+     * that is no older than maxAge
+     */
+    static LogStreamSnapshot cached(final ResourceHandlerRequest<ResourceModel> request,
+                                    final String logGroupName,
+                                    final Duration maxAge) {
+        synchronized (CACHE) {
+            final LogStreamSnapshot cached = CACHE.get(cacheKey(request, logGroupName));
+            return cached != null && !cached.isOlderThan(maxAge, System.nanoTime()) ? cached : null;
+        }
+    }
+
+    /**
+     * @return the log stream from the cached snapshot of the request's account, region and log group, or null if it
+     * is not held with attributes that were described no longer than maxAge ago
+     */
+    static LogStream cachedLogStream(final ResourceHandlerRequest<ResourceModel> request,
+                                     final String logGroupName,
+                                     final String logStreamName,
+                                     final Duration maxAge) {
+        synchronized (CACHE) {
+            final LogStreamSnapshot cached = CACHE.get(cacheKey(request, logGroupName));
+            return cached == null ? null : cached.get(logStreamName, maxAge, System.nanoTime());
+        }
+    }
+
+    static void cache(final ResourceHandlerRequest<ResourceModel> request,
+                      final String logGroupName,
+                      final LogStreamSnapshot snapshot) {
+        synchronized (CACHE) {
+            CACHE.put(cacheKey(request, logGroupName), snapshot);
+        }
+    }
+
+    /**
+     * Adds a log stream this container created to the cached snapshot of its log group, if there is one. Only its
+     * name is known until it is described, so the snapshot holds it without attributes.
+     */
+    static void recordCreated(final ResourceHandlerRequest<ResourceModel> request, final ResourceModel model) {
+        record(request, model.getLogGroupName(), model.getLogStreamName(), null);
+    }
+
+    /**
+     * Puts a log stream this container described into the cached snapshot of its log group, if there is one. It
+     * answers reads for {@link #READ_MAX_AGE} from now, however old the snapshot is.
+     */
+    static void recordDescribed(final ResourceHandlerRequest<ResourceModel> request,
+                                final String logGroupName,
+                                final LogStream logStream) {
+        record(request, logGroupName, logStream.logStreamName(), logStream);
+    }
+
+    private static void record(final ResourceHandlerRequest<ResourceModel> request,
+                               final String logGroupName,
+                               final String logStreamName,
+                               final LogStream logStream) {
+        final String key = cacheKey(request, logGroupName);
+        synchronized (CACHE) {
+            final LogStreamSnapshot cached = CACHE.get(key);
+            if (cached != null) {
+                final Map<String, LogStream> logStreams = new LinkedHashMap<>(cached.logStreams);
+                final Map<String, Long> describedAtNanos = new HashMap<>(cached.describedAtNanos);
+                logStreams.put(logStreamName, logStream);
+                if (logStream == null) {
+                    describedAtNanos.remove(logStreamName);
+                } else {
+                    describedAtNanos.put(logStreamName, System.nanoTime());
+                }
+                CACHE.put(key, new LogStreamSnapshot(logStreams, describedAtNanos, cached.complete, cached.scannedAtNanos));
+            }
+        }
+    }
+
+    /**
+     * Removes a log stream this container deleted from the cached snapshot of its log group, if there is one.
+     */
+    static void recordDeleted(final ResourceHandlerRequest<ResourceModel> request, final ResourceModel model) {
+        final String key = cacheKey(request, model.getLogGroupName());
+        synchronized (CACHE) {
+            final LogStreamSnapshot cached = CACHE.get(key);
+            if (cached != null && cached.logStreams.containsKey(model.getLogStreamName())) {
+                final Map<String, LogStream> logStreams = new LinkedHashMap<>(cached.logStreams);
+                final Map<String, Long> describedAtNanos = new HashMap<>(cached.describedAtNanos);
+                logStreams.remove(model.getLogStreamName());
+                describedAtNanos.remove(model.getLogStreamName());
+                CACHE.put(key, new LogStreamSnapshot(logStreams, describedAtNanos, cached.complete, cached.scannedAtNanos));
+            }
+        }
+    }
+
+    static void clearCache() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+    }
+
+    /**
+     * @return whether the scan reached the last log stream of the log group, so that a name it does not hold
+     * did not exist at the time
+     */
+    boolean isComplete() {
+        return complete;
+    }
+
+    boolean contains(final String logStreamName) {
+        return logStreams.containsKey(logStreamName);
+    }
+
+    /**
+     * @return the log stream with its attributes, or null if the snapshot does not hold it or only knows its name
+     */
+    LogStream get(final String logStreamName) {
+        return logStreams.get(logStreamName);
+    }
+
+    /**
+     * @return the log stream with its attributes, or null if they were not described within maxAge of nowNanos
+     */
+    LogStream get(final String logStreamName, final Duration maxAge, final long nowNanos) {
+        final Long describedAt = describedAtNanos.get(logStreamName);
+        return describedAt != null && nowNanos - describedAt < maxAge.toNanos() ? logStreams.get(logStreamName) : null;
+    }
+
+    boolean isOlderThan(final Duration maxAge, final long nowNanos) {
+        return nowNanos - scannedAtNanos >= maxAge.toNanos();
+    }
+
+    private static String cacheKey(final ResourceHandlerRequest<ResourceModel> request, final String logGroupName) {
+        return request.getAwsAccountId() + "/" + request.getRegion() + "/" + logGroupName;
+    }
+}
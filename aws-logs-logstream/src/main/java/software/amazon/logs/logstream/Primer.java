@@ -0,0 +1,80 @@
+package software.amazon.logs.logstream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogStreamsResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.LogStream;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Warms up a new execution environment before it serves its first request.
+ *
+ * Without it the first invocation of a cold container pays for loading the AWS SDK and building the
+ * client, parsing the resource schema, initialising the Jackson bindings of the resource model and
+ * running the translations for the first time. Priming is opt in: set {@value #PRIMING_ENVIRONMENT_VARIABLE}
+ * to true on the function. It runs once, when the first {@link Configuration} is constructed, i.e. while
+ * the runtime constructs the handler in the init phase, so a checkpoint/restore snapshot taken after init
+ * (SnapStart, CRaC) captures a primed JVM.
+ *
+ * No CloudWatch Logs calls are made, credentials are only available once a request arrives.
+ */
+final class Primer {
+    static final String PRIMING_ENVIRONMENT_VARIABLE = "LOGS_HANDLER_PRIMING";
+
+    private static final AtomicBoolean PRIMED = new AtomicBoolean();
+
+    private Primer() {
+    }
+
+    /**
+     * @param setting the value of {@link #PRIMING_ENVIRONMENT_VARIABLE}, null if not set
+     * @param configuration the configuration being constructed, whose schema is loaded
+     * @return whether this call primed the container, which only the first one with priming enabled does
+     */
+    static boolean primeIfEnabled(final String setting, final Configuration configuration) {
+        if (Boolean.parseBoolean(setting) && PRIMED.compareAndSet(false, true)) {
+            prime(configuration);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * A failure is ignored: the handler then loads whatever is missing on its first request.
+     *
+     * @return whether every step completed
+     */
+    static boolean prime(final Configuration configuration) {
+        try {
+            ClientBuilder.getClient();
+            configuration.resourceSchemaJSONObject();
+
+            final ObjectMapper mapper = new ObjectMapper();
+            final ResourceModel model = mapper.readValue(mapper.writeValueAsString(cannedModel()), ResourceModel.class);
+            translate(model);
+            return true;
+        } catch (final IOException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    private static ResourceModel cannedModel() {
+        return ResourceModel.builder()
+            .logGroupName("/primer/log-group")
+            .logStreamName("primer-log-stream")
+            .build();
+    }
+
+    private static void translate(final ResourceModel model) {
+        Translator.translateToCreateRequest(model);
+        Translator.translateToReadRequest(model);
+        Translator.translateToListRequest(model, null);
+
+        final DescribeLogStreamsResponse response = DescribeLogStreamsResponse.builder()
+            .logStreams(LogStream.builder().logStreamName(model.getLogStreamName()).build())
+            .build();
+        Translator.translateFromReadResponse(response, model);
+        Translator.translateFromListResponse(response, model);
+    }
+}
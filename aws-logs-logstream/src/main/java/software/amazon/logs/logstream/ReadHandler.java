@@ -4,6 +4,7 @@ import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogStreamsRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogStreamsResponse;
 import software.amazon.awssdk.services.cloudwatchlogs.model.InvalidParameterException;
+import software.amazon.awssdk.services.cloudwatchlogs.model.LogStream;
 import software.amazon.awssdk.services.cloudwatchlogs.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.cloudwatchlogs.model.ServiceUnavailableException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
@@ -42,6 +43,17 @@ public class ReadHandler extends BaseHandlerStd {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, "Log Group Name cannot be empty");
         }
 
+        // a recent describe of the log stream, e.g. by the create of this log stream, holds it already
+        final LogStream snapshotLogStream = LogStreamSnapshot.cachedLogStream(request, model.getLogGroupName(),
+                model.getLogStreamName(), LogStreamSnapshot.READ_MAX_AGE);
+        if (snapshotLogStream != null) {
+            logger.log(String.format("Read %s from the snapshot of log group %s", model.getLogStreamName(), model.getLogGroupName()));
+            return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                    .status(OperationStatus.SUCCESS)
+                    .resourceModel(Translator.translateFromLogStream(snapshotLogStream, model))
+                    .build();
+        }
+
         return proxy.initiate("AWS-Logs-LogStream::Read", proxyClient, model, callbackContext)
                 .translateToServiceRequest(Translator::translateToReadRequest)
                 .makeServiceCall((awsRequest, sdkProxyClient) -> readResource(awsRequest, sdkProxyClient , model, stackId))
@@ -57,16 +69,16 @@ public class ReadHandler extends BaseHandlerStd {
             final ProxyClient<CloudWatchLogsClient> proxyClient,
             final ResourceModel model,
             final String stackId) {
-        DescribeLogStreamsResponse describeLogStreamsResponse = null;
-            describeLogStreamsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::describeLogStreams);
+        final LogStream logStream = findLogStream(proxyClient, awsRequest, model.getLogStreamName());
 
-        if (describeLogStreamsResponse == null || describeLogStreamsResponse.logStreams().isEmpty()
-                || !describeLogStreamsResponse.logStreams().get(0).logStreamName().equals(model.getLogStreamName())) {
+        if (logStream == null) {
             logger.log(String.format("Resource does not exist for request: %s", awsRequest.toString()));
             throw new CfnNotFoundException(ResourceModel.TYPE_NAME, Objects.toString(model.getPrimaryIdentifier()));
         }
 
-        logger.log(String.format("Got response: %s", describeLogStreamsResponse));
-        return describeLogStreamsResponse;
+        logger.log(String.format("Got log stream: %s", logStream));
+        return DescribeLogStreamsResponse.builder()
+                .logStreams(logStream)
+                .build();
     }
 }
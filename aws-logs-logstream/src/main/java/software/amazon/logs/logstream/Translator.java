@@ -25,6 +25,8 @@ import java.util.stream.Stream;
  */
 
 public class Translator {
+  // Log streams per read call; the log stream read comes first, the others only share its name as prefix
+  static final int READ_LIMIT = 5;
 
   public static BaseHandlerException translateException(final AwsServiceException e) {
     if (e instanceof LimitExceededException) {
@@ -62,10 +64,15 @@ public class Translator {
             .build();
   }
 
+  /**
+   * Lists the log streams named like the model's, in name order, so the log stream itself comes first if it exists.
+   */
   static DescribeLogStreamsRequest translateToReadRequest(final ResourceModel model) {
     return DescribeLogStreamsRequest.builder()
             .logStreamNamePrefix(model.getLogStreamName())
             .logGroupName(model.getLogGroupName())
+            .orderBy(OrderBy.LOG_STREAM_NAME)
+            .limit(READ_LIMIT)
             .build();
 
   }
@@ -77,16 +84,24 @@ public class Translator {
    */
   static ResourceModel translateFromReadResponse(final DescribeLogStreamsResponse response, final ResourceModel model) {
     if(response != null && response.hasLogStreams()){
-      LogStream logStream = response.logStreams().get(0);
-
-      return ResourceModel.builder()
-              .logGroupName(model.getLogGroupName())
-              .logStreamName(logStream.logStreamName())
-              .build();
+      return translateFromLogStream(response.logStreams().get(0), model);
     }
     return null;
   }
 
+  /**
+   * Carries over the attributes DescribeLogStreams returns, so callers need no describe of their own for them. The
+   * last event timestamp is left out, as it changes with every log event and would make each read differ.
+   */
+  static ResourceModel translateFromLogStream(final LogStream logStream, final ResourceModel model) {
+    return ResourceModel.builder()
+            .logGroupName(model.getLogGroupName())
+            .logStreamName(logStream.logStreamName())
+            .arn(logStream.arn())
+            .creationTime(logStream.creationTime())
+            .build();
+  }
+
     static DeleteLogStreamRequest translateToDeleteRequest (final ResourceModel model){
       return DeleteLogStreamRequest.builder()
               .logGroupName(model.getLogGroupName())
@@ -96,18 +111,20 @@ public class Translator {
 
     static List<ResourceModel> translateFromListResponse (final DescribeLogStreamsResponse awsResponse, final ResourceModel model){
       return streamOfOrEmpty(awsResponse.logStreams())
-              .map(logStream -> ResourceModel.builder()
-                      .logStreamName(logStream.logStreamName())
-                      .logGroupName(model.getLogGroupName())
-                      .build())
+              .map(logStream -> translateFromLogStream(logStream, model))
               .collect(Collectors.toList());
     }
 
     static DescribeLogStreamsRequest translateToListRequest (final ResourceModel model, final String nextToken) {
+      return translateToListRequest(model, nextToken, 50);
+    }
+
+    static DescribeLogStreamsRequest translateToListRequest (final ResourceModel model, final String nextToken,
+                                                             final int limit) {
       return DescribeLogStreamsRequest.builder()
               .logGroupName(model.getLogGroupName())
               .nextToken(nextToken)
-              .limit(50)
+              .limit(limit)
               .build();
     }
 
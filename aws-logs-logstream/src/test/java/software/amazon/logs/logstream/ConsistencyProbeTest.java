@@ -0,0 +1,68 @@
+package software.amazon.logs.logstream;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConsistencyProbeTest {
+
+    @Test
+    public void await_ConsistentRightAway() {
+        final List<Long> sleeps = new ArrayList<>();
+        final ConsistencyProbe probe = new ConsistencyProbe(Duration.ofSeconds(10), sleeps::add);
+
+        assertThat(probe.await(() -> true)).isTrue();
+        assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    public void await_GrowingIntervals() {
+        final List<Long> sleeps = new ArrayList<>();
+        final AtomicInteger probes = new AtomicInteger();
+        final ConsistencyProbe probe = new ConsistencyProbe(Duration.ofSeconds(10), sleeps::add);
+
+        assertThat(probe.await(() -> probes.incrementAndGet() > 7)).isTrue();
+        assertThat(sleeps).isEqualTo(Arrays.asList(100L, 200L, 400L, 800L, 1600L, 2000L, 2000L));
+    }
+
+    @Test
+    public void await_BudgetSpent() {
+        final List<Long> sleeps = new ArrayList<>();
+        final ConsistencyProbe probe = new ConsistencyProbe(Duration.ofSeconds(10), sleeps::add);
+
+        assertThat(probe.await(() -> false)).isFalse();
+        assertThat(sleeps.stream().mapToLong(Long::longValue).sum()).isLessThanOrEqualTo(10_000L);
+        assertThat(sleeps).hasSize(8);
+    }
+
+    @Test
+    public void await_ProbeFails_StopsRightAway() {
+        final List<Long> sleeps = new ArrayList<>();
+        final AtomicInteger probes = new AtomicInteger();
+        final ConsistencyProbe probe = new ConsistencyProbe(Duration.ofSeconds(10), sleeps::add);
+
+        assertThat(probe.await(() -> probes.incrementAndGet() == 1 ? false : null)).isFalse();
+        assertThat(probes.get()).isEqualTo(2);
+        assertThat(sleeps).containsExactly(100L);
+    }
+
+    @Test
+    public void await_Interrupted() {
+        final ConsistencyProbe probe = new ConsistencyProbe(Duration.ofSeconds(10), millis -> {
+            throw new InterruptedException();
+        });
+
+        try {
+            assertThat(probe.await(() -> false)).isFalse();
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+    }
+}
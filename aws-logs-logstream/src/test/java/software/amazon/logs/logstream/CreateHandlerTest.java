@@ -66,6 +66,7 @@ public class CreateHandlerTest extends AbstractTestBase {
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         sdkClient = mock(CloudWatchLogsClient.class);
         proxyClient = MOCK_PROXY(proxy, sdkClient);
+        LogStreamSnapshot.clearCache();
     }
 
     @AfterEach
@@ -103,6 +104,81 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .desiredResourceState(model)
                 .build();
 
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(response.getResourceModel()).isEqualTo(request.getDesiredResourceState());
+        assertThat(response.getResourceModels()).isNull();
+        assertThat(response.getMessage()).isNull();
+        assertThat(response.getErrorCode()).isNull();
+        verify(proxyClient.client(), times(2)).describeLogStreams(any(DescribeLogStreamsRequest.class));
+        verify(proxyClient.client()).createLogStream(any(CreateLogStreamRequest.class));
+    }
+
+
+    @Test
+    public void handleRequest_ReturnsAttributesOfProbe() {
+        final ResourceModel model = ResourceModel.builder()
+                .logGroupName("logGroupName1")
+                .logStreamName("logStreamName")
+                .build();
+
+        when(proxyClient.client().describeLogStreams(any(DescribeLogStreamsRequest.class)))
+                .thenReturn(DescribeLogStreamsResponse.builder().build())
+                .thenReturn(DescribeLogStreamsResponse.builder()
+                        .logStreams(LogStream.builder()
+                                .logStreamName("logStreamName")
+                                .arn("arn:aws:logs:us-east-1:123456789012:log-group:logGroupName1:log-stream:logStreamName")
+                                .creationTime(1600000000000L)
+                                .build())
+                        .build());
+
+        when(proxyClient.client().createLogStream(any(CreateLogStreamRequest.class)))
+                .thenReturn(CreateLogStreamResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getArn())
+                .isEqualTo("arn:aws:logs:us-east-1:123456789012:log-group:logGroupName1:log-stream:logStreamName");
+        assertThat(response.getResourceModel().getCreationTime()).isEqualTo(1600000000000L);
+        // the read is answered by the probe
+        verify(proxyClient.client(), times(2)).describeLogStreams(any(DescribeLogStreamsRequest.class));
+        verify(proxyClient.client()).createLogStream(any(CreateLogStreamRequest.class));
+    }
+
+    @Test
+    public void handleRequest_NotVisibleYet_FallsBackToPropagationDelay() {
+        final CreateHandler handler = new CreateHandler(new ConsistencyProbe(Duration.ZERO, millis -> { }));
+        final ResourceModel model = ResourceModel.builder()
+                .logGroupName("logGroupName1")
+                .logStreamName("logStreamName")
+                .build();
+
+        final DescribeLogStreamsResponse describeResponse = DescribeLogStreamsResponse.builder()
+                .logStreams(Translator.translateToSDK(model))
+                .build();
+
+        // pre-create scan and probe, then the read once the propagation delay is over
+        when(proxyClient.client().describeLogStreams(any(DescribeLogStreamsRequest.class)))
+                .thenReturn(DescribeLogStreamsResponse.builder().build())
+                .thenReturn(DescribeLogStreamsResponse.builder().build())
+                .thenReturn(describeResponse);
+
+        when(proxyClient.client().createLogStream(any(CreateLogStreamRequest.class)))
+                .thenReturn(CreateLogStreamResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
         final ProgressEvent<ResourceModel, CallbackContext> response =
                 handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
         assertThat(response).isNotNull();
@@ -116,13 +192,69 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response2.getStatus()).isEqualTo(OperationStatus.SUCCESS);
         assertThat(response2.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response2.getResourceModel()).isEqualTo(request.getDesiredResourceState());
-        assertThat(response2.getResourceModels()).isNull();
-        assertThat(response2.getMessage()).isNull();
-        assertThat(response2.getErrorCode()).isNull();
-        verify(proxyClient.client(), times(2)).describeLogStreams(any(DescribeLogStreamsRequest.class));
+        verify(proxyClient.client(), times(3)).describeLogStreams(any(DescribeLogStreamsRequest.class));
         verify(proxyClient.client()).createLogStream(any(CreateLogStreamRequest.class));
     }
 
+    @Test
+    public void handleRequest_SecondCreateInLogGroup_CheckedAgainstSnapshot() {
+        final ResourceModel model = ResourceModel.builder()
+                .logGroupName("logGroupName1")
+                .logStreamName("logStreamName")
+                .build();
+        final ResourceModel model2 = ResourceModel.builder()
+                .logGroupName("logGroupName1")
+                .logStreamName("logStreamName2")
+                .build();
+
+        // one scan of the log group, then a probe per create
+        when(proxyClient.client().describeLogStreams(any(DescribeLogStreamsRequest.class)))
+                .thenReturn(DescribeLogStreamsResponse.builder().build())
+                .thenReturn(DescribeLogStreamsResponse.builder().logStreams(Translator.translateToSDK(model)).build())
+                .thenReturn(DescribeLogStreamsResponse.builder().logStreams(Translator.translateToSDK(model2)).build());
+
+        when(proxyClient.client().createLogStream(any(CreateLogStreamRequest.class)))
+                .thenReturn(CreateLogStreamResponse.builder().build());
+
+        for (final ResourceModel desired : new ResourceModel[] { model, model2 }) {
+            final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                    .desiredResourceState(desired)
+                    .build();
+
+            final ProgressEvent<ResourceModel, CallbackContext> response =
+                    handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+            assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+            assertThat(response.getResourceModel()).isEqualTo(desired);
+        }
+        verify(proxyClient.client(), times(3)).describeLogStreams(any(DescribeLogStreamsRequest.class));
+        verify(proxyClient.client(), times(2)).createLogStream(any(CreateLogStreamRequest.class));
+    }
+
+    @Test
+    public void handleRequest_FailedCreate_CreatedSinceSnapshot() {
+        final ResourceModel model = ResourceModel.builder()
+                .logGroupName("logGroupName1")
+                .logStreamName("logStreamName")
+                .build();
+
+        when(proxyClient.client().describeLogStreams(any(DescribeLogStreamsRequest.class)))
+                .thenReturn(DescribeLogStreamsResponse.builder().build());
+
+        when(proxyClient.client().createLogStream(any(CreateLogStreamRequest.class)))
+                .thenThrow(ResourceAlreadyExistsException.class);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler
+                .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.AlreadyExists);
+    }
 
     @Tag("noSdkInteraction")
     @Test
@@ -249,20 +381,12 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
         assertThat(response).isNotNull();
-        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
-        assertThat(response.getCallbackDelaySeconds()).isEqualTo(10);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(response.getResourceModel()).isEqualTo(request.getDesiredResourceState());
+        assertThat(response.getResourceModels()).isNull();
+        assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
-
-        final ProgressEvent<ResourceModel, CallbackContext> response2 =
-                handler.handleRequest(proxy, request, response.getCallbackContext(), proxyClient, logger);
-
-        assertThat(response2).isNotNull();
-        assertThat(response2.getStatus()).isEqualTo(OperationStatus.SUCCESS);
-        assertThat(response2.getCallbackDelaySeconds()).isEqualTo(0);
-        assertThat(response2.getResourceModel()).isEqualTo(request.getDesiredResourceState());
-        assertThat(response2.getResourceModels()).isNull();
-        assertThat(response2.getMessage()).isNull();
-        assertThat(response2.getErrorCode()).isNull();
         verify(proxyClient.client(), times(2)).describeLogStreams(any(DescribeLogStreamsRequest.class));
         verify(proxyClient.client()).createLogStream(any(CreateLogStreamRequest.class));
 
@@ -306,21 +430,13 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
         assertThat(response).isNotNull();
-        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
-        assertThat(response.getCallbackDelaySeconds()).isEqualTo(10);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(response.getResourceModel()).isEqualTo(request.getDesiredResourceState());
+        assertThat(response.getResourceModels()).isNull();
+        assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
-
-        final ProgressEvent<ResourceModel, CallbackContext> response2 =
-                handler.handleRequest(proxy, request, response.getCallbackContext(), proxyClient, logger);
-
-        assertThat(response2).isNotNull();
-        assertThat(response2.getStatus()).isEqualTo(OperationStatus.SUCCESS);
-        assertThat(response2.getCallbackDelaySeconds()).isEqualTo(0);
-        assertThat(response2.getResourceModel()).isEqualTo(request.getDesiredResourceState());
-        assertThat(response2.getResourceModels()).isNull();
-        assertThat(response2.getMessage()).isNull();
-        assertThat(response2.getErrorCode()).isNull();
-        verify(proxyClient.client(), times(2)).describeLogStreams(any(DescribeLogStreamsRequest.class));
+        verify(proxyClient.client(), times(3)).describeLogStreams(any(DescribeLogStreamsRequest.class));
         verify(proxyClient.client()).createLogStream(any(CreateLogStreamRequest.class));
 
     }
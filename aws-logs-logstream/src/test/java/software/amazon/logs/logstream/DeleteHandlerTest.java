@@ -32,6 +32,7 @@ import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -54,6 +55,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         sdkClient = mock(CloudWatchLogsClient.class);
         proxyClient = MOCK_PROXY(proxy, sdkClient);
+        LogStreamSnapshot.clearCache();
     }
 
     @AfterEach
@@ -75,8 +77,70 @@ public class DeleteHandlerTest extends AbstractTestBase {
                 .build();
 
         when(proxyClient.client().deleteLogStream(any(DeleteLogStreamRequest.class)))
-                .thenReturn(DeleteLogStreamResponse.builder().build())
                 .thenReturn(DeleteLogStreamResponse.builder().build());
+        when(proxyClient.client().describeLogStreams(any(DescribeLogStreamsRequest.class)))
+                .thenReturn(DescribeLogStreamsResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(response.getResourceModel()).isNull();
+        assertThat(response.getResourceModels()).isNull();
+        assertThat(response.getMessage()).isNull();
+        assertThat(response.getErrorCode()).isNull();
+        verify(proxyClient.client()).describeLogStreams(any(DescribeLogStreamsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_RemovedFromSnapshot() {
+        final ResourceModel model = ResourceModel.builder()
+                .logGroupName("logGroupName1")
+                .logStreamName("logStreamName")
+                .build();
+
+        when(proxyClient.client().deleteLogStream(any(DeleteLogStreamRequest.class)))
+                .thenReturn(DeleteLogStreamResponse.builder().build());
+        when(proxyClient.client().describeLogStreams(any(DescribeLogStreamsRequest.class)))
+                .thenReturn(DescribeLogStreamsResponse.builder()
+                        .logStreams(Translator.translateToSDK(model))
+                        .build())
+                .thenReturn(DescribeLogStreamsResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+        LogStreamSnapshot.cachedOrScan(proxyClient, request, "logGroupName1", LogStreamSnapshot.READ_MAX_AGE);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(LogStreamSnapshot.cached(request, "logGroupName1", LogStreamSnapshot.READ_MAX_AGE).contains("logStreamName"))
+                .isFalse();
+        verify(proxyClient.client(), times(2)).describeLogStreams(any(DescribeLogStreamsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_StillVisible_FallsBackToPropagationDelay() {
+        final DeleteHandler handler = new DeleteHandler(new ConsistencyProbe(Duration.ZERO, millis -> { }));
+        final ResourceModel model = ResourceModel.builder()
+                .logGroupName("logGroupName1")
+                .logStreamName("logStreamName")
+                .build();
+
+        when(proxyClient.client().deleteLogStream(any(DeleteLogStreamRequest.class)))
+                .thenReturn(DeleteLogStreamResponse.builder().build());
+        when(proxyClient.client().describeLogStreams(any(DescribeLogStreamsRequest.class)))
+                .thenReturn(DescribeLogStreamsResponse.builder()
+                        .logStreams(Translator.translateToSDK(model))
+                        .build());
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
             .desiredResourceState(model)
@@ -99,11 +163,38 @@ public class DeleteHandlerTest extends AbstractTestBase {
         assertThat(response2.getStatus()).isEqualTo(OperationStatus.SUCCESS);
         assertThat(response2.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response2.getResourceModel()).isNull();
-        assertThat(response2.getResourceModels()).isNull();
-        assertThat(response2.getMessage()).isNull();
         assertThat(response2.getErrorCode()).isNull();
+        verify(proxyClient.client()).describeLogStreams(any(DescribeLogStreamsRequest.class));
     }
 
+    @Test
+    public void handleRequest_ProbeFails_FallsBackToPropagationDelay() {
+        final List<Long> sleeps = new ArrayList<>();
+        final DeleteHandler handler = new DeleteHandler(new ConsistencyProbe(Duration.ofSeconds(10), sleeps::add));
+        final ResourceModel model = ResourceModel.builder()
+                .logGroupName("logGroupName1")
+                .logStreamName("logStreamName")
+                .build();
+
+        when(proxyClient.client().deleteLogStream(any(DeleteLogStreamRequest.class)))
+                .thenReturn(DeleteLogStreamResponse.builder().build());
+        when(proxyClient.client().describeLogStreams(any(DescribeLogStreamsRequest.class)))
+                .thenThrow(ServiceUnavailableException.class);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(10);
+        // a failed probe is not retried within the invocation
+        assertThat(sleeps).isEmpty();
+        verify(proxyClient.client(), times(1)).describeLogStreams(any(DescribeLogStreamsRequest.class));
+    }
 
     @Tag("noSdkInteraction")
     @Test
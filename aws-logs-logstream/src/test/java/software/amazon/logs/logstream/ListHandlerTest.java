@@ -8,6 +8,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
@@ -88,10 +89,135 @@ public class ListHandlerTest extends AbstractTestBase{
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getResourceModel()).isNull();
         assertThat(response.getResourceModels()).isNotNull();
+        assertThat(response.getNextToken()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_ResumesFromNextToken() {
+        handler = new ListHandler();
+
+        final ResourceModel model = ResourceModel.builder()
+                .logGroupName("logGroupName1")
+                .build();
+
+        when(proxyClient.client().describeLogStreams(any(DescribeLogStreamsRequest.class)))
+                .thenReturn(page(0, 50, "token2"), page(50, 10, null));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .nextToken("token1")
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).hasSize(60);
+        assertThat(response.getResourceModels().get(0).getLogGroupName()).isEqualTo("logGroupName1");
+        assertThat(response.getResourceModels().get(0).getCreationTime()).isEqualTo(1600000000000L);
+        assertThat(response.getNextToken()).isNull();
+
+        // the token of the request is the DescribeLogStreams token, passed through as is
+        final ArgumentCaptor<DescribeLogStreamsRequest> captor = ArgumentCaptor.forClass(DescribeLogStreamsRequest.class);
+        verify(proxyClient.client(), times(2)).describeLogStreams(captor.capture());
+        assertThat(captor.getAllValues()).extracting(DescribeLogStreamsRequest::nextToken)
+                .containsExactly("token1", "token2");
+        assertThat(captor.getAllValues()).extracting(DescribeLogStreamsRequest::limit)
+                .containsExactly(50, 50);
+    }
+
+    @Test
+    public void handleRequest_FillsPageSize() {
+        handler = new ListHandler();
+
+        final ResourceModel model = ResourceModel.builder()
+                .logGroupName("logGroupName1")
+                .build();
+
+        final List<DescribeLogStreamsResponse> pages = new ArrayList<>();
+        for (int i = 0; i < ListHandler.PAGE_SIZE / 50; i++) {
+            pages.add(page(i * 50, 50, "token" + (i + 1)));
+        }
+        doReturn(pages.get(0), pages.subList(1, pages.size()).toArray())
+                .when(proxyClient.client()).describeLogStreams(any(DescribeLogStreamsRequest.class));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).hasSize(ListHandler.PAGE_SIZE);
+        assertThat(response.getResourceModels().get(ListHandler.PAGE_SIZE - 1).getLogStreamName())
+                .isEqualTo("logStreamName" + (ListHandler.PAGE_SIZE - 1));
+        assertThat(response.getNextToken()).isEqualTo("token" + pages.size());
+
+        final ArgumentCaptor<DescribeLogStreamsRequest> captor = ArgumentCaptor.forClass(DescribeLogStreamsRequest.class);
+        verify(proxyClient.client(), times(pages.size())).describeLogStreams(captor.capture());
+        assertThat(captor.getAllValues().get(0).nextToken()).isNull();
+        assertThat(captor.getAllValues().get(1).nextToken()).isEqualTo("token1");
+        assertThat(captor.getAllValues()).extracting(DescribeLogStreamsRequest::limit)
+                .containsOnly(50);
+    }
+
+    @Test
+    public void handleRequest_ShortPages_BoundedCalls() {
+        handler = new ListHandler();
+
+        final ResourceModel model = ResourceModel.builder()
+                .logGroupName("logGroupName1")
+                .build();
+
+        // DescribeLogStreams may return fewer log streams than asked for, with a next token
+        final List<DescribeLogStreamsResponse> pages = new ArrayList<>();
+        pages.add(page(0, 20, "token1"));
+        for (int i = 1; i < ListHandler.PAGE_SIZE / 50; i++) {
+            pages.add(page(i * 50 - 30, 50, "token" + (i + 1)));
+        }
+        doReturn(pages.get(0), pages.subList(1, pages.size()).toArray())
+                .when(proxyClient.client()).describeLogStreams(any(DescribeLogStreamsRequest.class));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // the calls of one invocation are bounded, so the page is returned short
+        assertThat(response.getResourceModels()).hasSize(ListHandler.PAGE_SIZE - 30);
+        assertThat(response.getNextToken()).isEqualTo("token" + pages.size());
+        verify(proxyClient.client(), times(pages.size())).describeLogStreams(any(DescribeLogStreamsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_StopsAtEndOfLogGroup() {
+        handler = new ListHandler();
+
+        final ResourceModel model = ResourceModel.builder()
+                .logGroupName("logGroupName1")
+                .build();
+
+        doReturn(page(0, 50, "token1"), page(50, 10, null))
+                .when(proxyClient.client()).describeLogStreams(any(DescribeLogStreamsRequest.class));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).hasSize(60);
+        assertThat(response.getNextToken()).isNull();
+        verify(proxyClient.client(), times(2)).describeLogStreams(any(DescribeLogStreamsRequest.class));
+    }
+
     @Tag("noSdkInteraction")
     @Test
     public void handleRequest_LogGroupNameEmpty() {
@@ -160,4 +286,17 @@ public class ListHandlerTest extends AbstractTestBase{
 
     }
 
+    private static DescribeLogStreamsResponse page(final int first, final int count, final String nextToken) {
+        final List<LogStream> logStreams = new ArrayList<>();
+        for (int i = first; i < first + count; i++) {
+            logStreams.add(LogStream.builder()
+                    .logStreamName("logStreamName" + i)
+                    .creationTime(1600000000000L + i)
+                    .build());
+        }
+        return DescribeLogStreamsResponse.builder()
+                .logStreams(logStreams)
+                .nextToken(nextToken)
+                .build();
+    }
 }
@@ -0,0 +1,210 @@
+package software.amazon.logs.logstream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogStreamsRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogStreamsResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.LogStream;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class LogStreamSnapshotTest extends AbstractTestBase {
+    private static final String LOG_GROUP_NAME = "logGroupName";
+
+    private CloudWatchLogsClient sdkClient;
+    private ProxyClient<CloudWatchLogsClient> proxyClient;
+    private ResourceHandlerRequest<ResourceModel> request;
+
+    @BeforeEach
+    public void setup() {
+        final AmazonWebServicesClientProxy proxy =
+                new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        sdkClient = mock(CloudWatchLogsClient.class);
+        proxyClient = MOCK_PROXY(proxy, sdkClient);
+        request = ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId("123456789012")
+                .region("us-east-1")
+                .build();
+    }
+
+    @AfterEach
+    public void tear_down() {
+        LogStreamSnapshot.clearCache();
+    }
+
+    @Test
+    public void scan_LastPage() {
+        doReturn(DescribeLogStreamsResponse.builder()
+                .logStreams(LogStream.builder().logStreamName("first").build(),
+                        LogStream.builder().logStreamName("second").build())
+                .build())
+                .when(sdkClient).describeLogStreams(any(DescribeLogStreamsRequest.class));
+
+        final LogStreamSnapshot snapshot = LogStreamSnapshot.scan(proxyClient, LOG_GROUP_NAME);
+
+        assertThat(snapshot.isComplete()).isTrue();
+        assertThat(snapshot.contains("first")).isTrue();
+        assertThat(snapshot.get("second").logStreamName()).isEqualTo("second");
+        assertThat(snapshot.contains("missing")).isFalse();
+        assertThat(snapshot.get("missing")).isNull();
+        verify(sdkClient).describeLogStreams(DescribeLogStreamsRequest.builder()
+                .logGroupName(LOG_GROUP_NAME)
+                .limit(LogStreamSnapshot.SCAN_LIMIT)
+                .build());
+    }
+
+    @Test
+    public void scan_StopsAfterFirstPage() {
+        doReturn(page("stream", "token"))
+                .when(sdkClient).describeLogStreams(any(DescribeLogStreamsRequest.class));
+
+        final LogStreamSnapshot snapshot = LogStreamSnapshot.scan(proxyClient, LOG_GROUP_NAME);
+
+        assertThat(snapshot.isComplete()).isFalse();
+        assertThat(snapshot.contains("stream")).isTrue();
+        verify(sdkClient, times(1)).describeLogStreams(any(DescribeLogStreamsRequest.class));
+    }
+
+    @Test
+    public void cachedOrScan_LargeLogGroup_NotScannedAgain() {
+        doReturn(page("stream", "token"))
+                .when(sdkClient).describeLogStreams(any(DescribeLogStreamsRequest.class));
+
+        LogStreamSnapshot.cachedOrScan(proxyClient, request, LOG_GROUP_NAME, Duration.ofSeconds(60));
+        final LogStreamSnapshot snapshot = LogStreamSnapshot.cachedOrScan(proxyClient, request, LOG_GROUP_NAME, Duration.ofSeconds(60));
+
+        assertThat(snapshot.isComplete()).isFalse();
+        verify(sdkClient, times(1)).describeLogStreams(any(DescribeLogStreamsRequest.class));
+    }
+
+    @Test
+    public void cachedOrScan_ScansOncePerLogGroup() {
+        doReturn(page("first", null))
+                .when(sdkClient).describeLogStreams(any(DescribeLogStreamsRequest.class));
+
+        final LogStreamSnapshot first = LogStreamSnapshot.cachedOrScan(proxyClient, request, LOG_GROUP_NAME, Duration.ofSeconds(60));
+        final LogStreamSnapshot second = LogStreamSnapshot.cachedOrScan(proxyClient, request, LOG_GROUP_NAME, Duration.ofSeconds(60));
+        LogStreamSnapshot.cachedOrScan(proxyClient, request, "otherLogGroupName", Duration.ofSeconds(60));
+
+        assertThat(second).isSameAs(first);
+        verify(sdkClient, times(2)).describeLogStreams(any(DescribeLogStreamsRequest.class));
+    }
+
+    @Test
+    public void cached_TooOld() {
+        doReturn(page("first", null))
+                .when(sdkClient).describeLogStreams(any(DescribeLogStreamsRequest.class));
+        LogStreamSnapshot.cachedOrScan(proxyClient, request, LOG_GROUP_NAME, Duration.ofSeconds(60));
+
+        assertThat(LogStreamSnapshot.cached(request, LOG_GROUP_NAME, Duration.ofSeconds(60))).isNotNull();
+        assertThat(LogStreamSnapshot.cached(request, LOG_GROUP_NAME, Duration.ZERO)).isNull();
+        assertThat(LogStreamSnapshot.cached(request, "otherLogGroupName", Duration.ofSeconds(60))).isNull();
+    }
+
+    @Test
+    public void recordCreatedAndDeleted() {
+        doReturn(page("first", null))
+                .when(sdkClient).describeLogStreams(any(DescribeLogStreamsRequest.class));
+        LogStreamSnapshot.cachedOrScan(proxyClient, request, LOG_GROUP_NAME, Duration.ofSeconds(60));
+        final ResourceModel created = ResourceModel.builder()
+                .logGroupName(LOG_GROUP_NAME)
+                .logStreamName("created")
+                .build();
+        final ResourceModel deleted = ResourceModel.builder()
+                .logGroupName(LOG_GROUP_NAME)
+                .logStreamName("first")
+                .build();
+
+        LogStreamSnapshot.recordCreated(request, created);
+        LogStreamSnapshot.recordDeleted(request, deleted);
+
+        final LogStreamSnapshot snapshot = LogStreamSnapshot.cached(request, LOG_GROUP_NAME, Duration.ofSeconds(60));
+        assertThat(snapshot.contains("created")).isTrue();
+        assertThat(snapshot.get("created")).isNull();
+        assertThat(snapshot.contains("first")).isFalse();
+        assertThat(snapshot.isComplete()).isTrue();
+    }
+
+    @Test
+    public void recordDescribed() {
+        doReturn(page("first", null))
+                .when(sdkClient).describeLogStreams(any(DescribeLogStreamsRequest.class));
+        LogStreamSnapshot.cachedOrScan(proxyClient, request, LOG_GROUP_NAME, Duration.ofSeconds(60));
+        LogStreamSnapshot.recordCreated(request, ResourceModel.builder()
+                .logGroupName(LOG_GROUP_NAME)
+                .logStreamName("created")
+                .build());
+
+        LogStreamSnapshot.recordDescribed(request, LOG_GROUP_NAME, LogStream.builder()
+                .logStreamName("created")
+                .creationTime(1600000000000L)
+                .build());
+
+        final LogStreamSnapshot snapshot = LogStreamSnapshot.cached(request, LOG_GROUP_NAME, Duration.ofSeconds(60));
+        assertThat(snapshot.get("created").creationTime()).isEqualTo(1600000000000L);
+        assertThat(LogStreamSnapshot.cachedLogStream(request, LOG_GROUP_NAME, "created", LogStreamSnapshot.READ_MAX_AGE)
+                .creationTime()).isEqualTo(1600000000000L);
+    }
+
+    @Test
+    public void recordDescribed_FreshWhileSnapshotIsOld() {
+        doReturn(page("first", null))
+                .when(sdkClient).describeLogStreams(any(DescribeLogStreamsRequest.class));
+        LogStreamSnapshot.cachedOrScan(proxyClient, request, LOG_GROUP_NAME, Duration.ofSeconds(60));
+        final long scannedBeforeNanos = System.nanoTime();
+
+        LogStreamSnapshot.recordDescribed(request, LOG_GROUP_NAME, LogStream.builder()
+                .logStreamName("created")
+                .build());
+
+        final LogStreamSnapshot snapshot = LogStreamSnapshot.cached(request, LOG_GROUP_NAME, Duration.ofSeconds(60));
+        final long nowNanos = scannedBeforeNanos + LogStreamSnapshot.READ_MAX_AGE.toNanos();
+        assertThat(snapshot.isOlderThan(LogStreamSnapshot.READ_MAX_AGE, nowNanos)).isTrue();
+        assertThat(snapshot.get("first", LogStreamSnapshot.READ_MAX_AGE, nowNanos)).isNull();
+        assertThat(snapshot.get("created", LogStreamSnapshot.READ_MAX_AGE, nowNanos - 1)).isNotNull();
+    }
+
+    @Test
+    public void cachedLogStream_NameOnly() {
+        doReturn(page("first", null))
+                .when(sdkClient).describeLogStreams(any(DescribeLogStreamsRequest.class));
+        LogStreamSnapshot.cachedOrScan(proxyClient, request, LOG_GROUP_NAME, Duration.ofSeconds(60));
+        LogStreamSnapshot.recordCreated(request, ResourceModel.builder()
+                .logGroupName(LOG_GROUP_NAME)
+                .logStreamName("created")
+                .build());
+
+        assertThat(LogStreamSnapshot.cachedLogStream(request, LOG_GROUP_NAME, "created", LogStreamSnapshot.READ_MAX_AGE)).isNull();
+        assertThat(LogStreamSnapshot.cachedLogStream(request, LOG_GROUP_NAME, "first", LogStreamSnapshot.READ_MAX_AGE)).isNotNull();
+        assertThat(LogStreamSnapshot.cachedLogStream(request, LOG_GROUP_NAME, "first", Duration.ZERO)).isNull();
+    }
+
+    @Test
+    public void recordCreated_NothingCached() {
+        LogStreamSnapshot.recordCreated(request, ResourceModel.builder()
+                .logGroupName(LOG_GROUP_NAME)
+                .logStreamName("created")
+                .build());
+
+        assertThat(LogStreamSnapshot.cached(request, LOG_GROUP_NAME, Duration.ofSeconds(60))).isNull();
+    }
+
+    private static DescribeLogStreamsResponse page(final String logStreamName, final String nextToken) {
+        return DescribeLogStreamsResponse.builder()
+                .logStreams(LogStream.builder().logStreamName(logStreamName).build())
+                .nextToken(nextToken)
+                .build();
+    }
+}
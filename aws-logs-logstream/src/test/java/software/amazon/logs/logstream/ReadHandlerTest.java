@@ -20,6 +20,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -51,6 +52,7 @@ public class ReadHandlerTest extends AbstractTestBase {
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         sdkClient = mock(CloudWatchLogsClient.class);
         proxyClient = MOCK_PROXY(proxy, sdkClient);
+        LogStreamSnapshot.clearCache();
     }
 
     @AfterEach
@@ -63,6 +65,33 @@ public class ReadHandlerTest extends AbstractTestBase {
         verifyNoMoreInteractions(sdkClient);
     }
 
+    @Tag("noSdkInteraction")
+    @Test
+    public void handleRequest_FromRecentSnapshot() {
+        final ResourceModel model = ResourceModel.builder()
+                .logGroupName("logGroupName1")
+                .logStreamName("logStreamName")
+                .build();
+
+        when(proxyClient.client().describeLogStreams(any(DescribeLogStreamsRequest.class)))
+                .thenReturn(DescribeLogStreamsResponse.builder()
+                        .logStreams(Translator.translateToSDK(model))
+                        .build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        LogStreamSnapshot.cachedOrScan(proxyClient, request, "logGroupName1", LogStreamSnapshot.READ_MAX_AGE);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(model);
+        verify(proxyClient.client(), times(1)).describeLogStreams(any(DescribeLogStreamsRequest.class));
+    }
+
     @Test
     public void handleRequest_SimpleSuccess() {
 
@@ -234,6 +263,99 @@ public class ReadHandlerTest extends AbstractTestBase {
                 .isInstanceOf(CfnNotFoundException.class);
     }
 
+    @Test
+    public void handleRequest_ResourceNotFoundOnlyPrefixedNames() {
+        final ResourceModel model = ResourceModel.builder()
+                .logGroupName("logGroupName1")
+                .logStreamName("a")
+                .build();
+
+        when(proxyClient.client().describeLogStreams(any(DescribeLogStreamsRequest.class)))
+                .thenReturn(DescribeLogStreamsResponse.builder()
+                        .logStreams(LogStream.builder().logStreamName("a-1").build(),
+                                LogStream.builder().logStreamName("a-2").build())
+                        .nextToken("token")
+                        .build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        assertThatThrownBy(() -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger))
+                .isInstanceOf(CfnNotFoundException.class);
+
+        // the first name past the log stream ends the lookup
+        final ArgumentCaptor<DescribeLogStreamsRequest> captor = ArgumentCaptor.forClass(DescribeLogStreamsRequest.class);
+        verify(proxyClient.client(), times(1)).describeLogStreams(captor.capture());
+        assertThat(captor.getValue().logStreamNamePrefix()).isEqualTo("a");
+        assertThat(captor.getValue().orderBy()).isEqualTo(OrderBy.LOG_STREAM_NAME);
+        assertThat(captor.getValue().limit()).isEqualTo(Translator.READ_LIMIT);
+    }
+
+    @Test
+    public void handleRequest_ExactMatchAfterEmptyPage() {
+        final ResourceModel model = ResourceModel.builder()
+                .logGroupName("logGroupName1")
+                .logStreamName("a")
+                .build();
+
+        doReturn(DescribeLogStreamsResponse.builder()
+                        .nextToken("token")
+                        .build(),
+                DescribeLogStreamsResponse.builder()
+                        .logStreams(LogStream.builder().logStreamName("a").build(),
+                                LogStream.builder().logStreamName("a-1").build())
+                        .build())
+                .when(proxyClient.client()).describeLogStreams(any(DescribeLogStreamsRequest.class));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(model);
+
+        final ArgumentCaptor<DescribeLogStreamsRequest> captor = ArgumentCaptor.forClass(DescribeLogStreamsRequest.class);
+        verify(proxyClient.client(), times(2)).describeLogStreams(captor.capture());
+        assertThat(captor.getAllValues().get(1).nextToken()).isEqualTo("token");
+    }
+
+    @Test
+    public void handleRequest_ReturnsAttributes() {
+        final ResourceModel model = ResourceModel.builder()
+                .logGroupName("logGroupName1")
+                .logStreamName("logStreamName")
+                .build();
+
+        when(proxyClient.client().describeLogStreams(any(DescribeLogStreamsRequest.class)))
+                .thenReturn(DescribeLogStreamsResponse.builder()
+                        .logStreams(LogStream.builder()
+                                .logStreamName("logStreamName")
+                                .arn("arn:aws:logs:us-east-1:123456789012:log-group:logGroupName1:log-stream:logStreamName")
+                                .creationTime(1600000000000L)
+                                .lastEventTimestamp(1600000060000L)
+                                .build())
+                        .build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(ResourceModel.builder()
+                .logGroupName("logGroupName1")
+                .logStreamName("logStreamName")
+                .arn("arn:aws:logs:us-east-1:123456789012:log-group:logGroupName1:log-stream:logStreamName")
+                .creationTime(1600000000000L)
+                .build());
+    }
+
     @Test
     public void handleRequest_ExceptionThrown() {
         final ResourceModel model = ResourceModel.builder()
@@ -0,0 +1,73 @@
+package software.amazon.logs.metricfilter;
+
+import software.amazon.cloudformation.proxy.Delay;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Backoff between retries of a call chain, sized by how throttled recent calls were.
+ *
+ * Delays double with each attempt, starting from {@link #MIN_DELAY} when calls are not being throttled. The
+ * starting delay grows with the {@link ThrottleRate}, up to {@link #MAX_THROTTLE_FACTOR} times the minimum
+ * when every recent call was throttled, so retries back off fast on a contended account and do not wait for
+ * nothing on an idle one. Each delay is jittered between half and all of its value and capped at
+ * {@link #MAX_DELAY}. The delays of a resource operation add up to at most {@link #RETRY_BUDGET}, after which
+ * the call chain fails instead of retrying. The delay spent so far is kept in the {@link CallbackContext}, so the
+ * budget carries over when CloudFormation re-invokes the handler to wait out a delay.
+ *
+ * An instance belongs to one call chain and is not shared between threads.
+ */
+final class AdaptiveBackoff implements Delay {
+    static final Duration MIN_DELAY = Duration.ofMillis(250);
+
+    // Same as the backoff of the SDK clients, there's no point of backing off for more than 20 seconds
+    static final Duration MAX_DELAY = Duration.ofSeconds(20);
+
+    // At a throttle rate of 1 the first retry waits 10 seconds, the fixed minimum the handlers used to wait
+    static final double MAX_THROTTLE_FACTOR = 40;
+
+    static final Duration RETRY_BUDGET = Duration.ofMinutes(5);
+
+    // Beyond this attempt the delay is capped anyway, and shifting further would overflow
+    private static final int MAX_DOUBLINGS = 20;
+
+    private final CallbackContext callbackContext;
+    private final ThrottleRate throttleRate;
+    private final DoubleSupplier random;
+
+    /**
+     * @param callbackContext the context of the operation, which keeps the delay spent so far
+     */
+    AdaptiveBackoff(final CallbackContext callbackContext) {
+        this(callbackContext, ThrottleRate.SHARED, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    /**
+     * @param random returns values in [0, 1) to jitter the delays with, 1 leaves them as they are
+     */
+    AdaptiveBackoff(final CallbackContext callbackContext, final ThrottleRate throttleRate, final DoubleSupplier random) {
+        this.callbackContext = callbackContext;
+        this.throttleRate = throttleRate;
+        this.random = random;
+    }
+
+    /**
+     * @param attempt the retry attempt of the call chain, starting at 1
+     * @return the delay before the attempt, or {@link Duration#ZERO} to stop retrying once the budget is spent
+     */
+    @Override
+    public Duration nextDelay(final int attempt) {
+        final double factor = 1 + (MAX_THROTTLE_FACTOR - 1) * throttleRate.get();
+        final long doublings = 1L << Math.min(Math.max(attempt, 1) - 1, MAX_DOUBLINGS);
+        final double cappedMillis = Math.min(MIN_DELAY.toMillis() * factor * doublings, MAX_DELAY.toMillis());
+        final long delayMillis = Math.max(1, (long) (cappedMillis * (0.5 + 0.5 * random.getAsDouble())));
+        final long spentMillis = callbackContext.getRetryDelayMillis();
+        if (spentMillis + delayMillis > RETRY_BUDGET.toMillis()) {
+            return Duration.ZERO;
+        }
+        callbackContext.setRetryDelayMillis(spentMillis + delayMillis);
+        return Duration.ofMillis(delayMillis);
+    }
+}
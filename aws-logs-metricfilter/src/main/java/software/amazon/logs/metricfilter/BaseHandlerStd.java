@@ -3,9 +3,11 @@ package software.amazon.logs.metricfilter;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.exception.RetryableException;
 import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+import software.amazon.awssdk.services.cloudwatchlogs.model.CloudWatchLogsException;
 import software.amazon.awssdk.services.cloudwatchlogs.model.CloudWatchLogsRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeMetricFiltersRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeMetricFiltersResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.MetricFilter;
 import software.amazon.awssdk.services.cloudwatchlogs.model.ResourceNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.CallChain;
@@ -14,21 +16,12 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Exponential;
 
-import java.time.Duration;
+import java.util.Collections;
 
 import static software.amazon.awssdk.core.internal.retry.SdkDefaultRetrySetting.RETRYABLE_STATUS_CODES;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
-    final Duration minDelay = Duration.ofSeconds(10);
-    final Duration timeout = Duration.ofMinutes(30);
-
-    // Uluru level exponential back off strategy. Starting with min delay of 10 seconds, until 30 mins is reached.
-    protected final Exponential backoffStrategy = Exponential.of()
-            .minDelay(minDelay)
-            .timeout(timeout)
-            .build();
 
     CallChain.ExceptionPropagate<CloudWatchLogsRequest, Exception, CloudWatchLogsClient, ResourceModel, CallbackContext, ProgressEvent<ResourceModel, CallbackContext>> handleError = (
                     CloudWatchLogsRequest request,
@@ -52,13 +45,26 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final CallbackContext callbackContext,
             final Logger logger
     ) {
-        return handleRequest(
-                proxy,
-                request,
-                callbackContext != null ? callbackContext : new CallbackContext(),
-                proxy.newProxy(ClientBuilder::getClient),
-                logger
-        );
+        final ApiCallMetrics metrics = ApiCallMetrics.start(getClass());
+        try {
+            return handleRequest(
+                    proxy,
+                    request,
+                    callbackContext != null ? callbackContext : new CallbackContext(),
+                    proxy.newProxy(ClientBuilder::getClient),
+                    logger
+            );
+        } finally {
+            metrics.finish(logger);
+        }
+    }
+
+    /**
+     * Uluru level back off strategy for one call chain. Starts below a second and grows with the throttling of
+     * recent calls, until 5 minutes of delays are reached within the operation.
+     */
+    protected static AdaptiveBackoff backoff(final CallbackContext callbackContext) {
+        return new AdaptiveBackoff(callbackContext);
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -71,21 +77,82 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
     protected boolean exists(final ProxyClient<CloudWatchLogsClient> proxyClient, final ResourceModel model) throws AwsServiceException {
         final DescribeMetricFiltersRequest translateToReadRequest = Translator.translateToReadRequest(model);
-        final DescribeMetricFiltersResponse response;
         try {
-            response = proxyClient.injectCredentialsAndInvokeV2(translateToReadRequest, proxyClient.client()::describeMetricFilters);
-            if (response == null || response.metricFilters() == null) {
-                return false;
+            return findMetricFilter(proxyClient, translateToReadRequest, model.getFilterName()) != null;
+        } catch (final ResourceNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Describes the metric filter of a model ahead of a put. The response holds the filter of exactly the
+     * requested name, or nothing if there is none. A missing log group reads as an empty response, since
+     * its filters do not exist either.
+     */
+    protected DescribeMetricFiltersResponse describeMetricFilter(final DescribeMetricFiltersRequest awsRequest,
+                                                                 final ProxyClient<CloudWatchLogsClient> proxyClient) {
+        DescribeMetricFiltersResponse awsResponse = null;
+        try {
+            final MetricFilter metricFilter = findMetricFilter(proxyClient, awsRequest, awsRequest.filterNamePrefix());
+            awsResponse = DescribeMetricFiltersResponse.builder()
+                    .metricFilters(metricFilter == null ? Collections.emptyList() : Collections.singletonList(metricFilter))
+                    .build();
+        } catch (final ResourceNotFoundException e) {
+            awsResponse = DescribeMetricFiltersResponse.builder().build();
+        } catch (final CloudWatchLogsException e) {
+            Translator.translateException(e);
+        }
+        return awsResponse;
+    }
+
+    /**
+     * @return the metric filter of the model in a response of {@link #describeMetricFilter}, or null if the
+     * response holds none
+     */
+    static MetricFilter findMetricFilter(final DescribeMetricFiltersResponse response, final ResourceModel model) {
+        if (response == null || !response.hasMetricFilters()) {
+            return null;
+        }
+        for (final MetricFilter metricFilter : response.metricFilters()) {
+            if (model.getFilterName().equals(metricFilter.filterName())) {
+                return metricFilter;
             }
-            if (!response.hasMetricFilters()) {
-                return false;
+        }
+        return null;
+    }
+
+    /**
+     * Pages through the metric filters a {@link Translator#translateToReadRequest} matches by name prefix, for
+     * as long as the names on a page still start with the filter name.
+     *
+     * @return the metric filter of exactly the given name, or null if the log group has none
+     */
+    static MetricFilter findMetricFilter(final ProxyClient<CloudWatchLogsClient> proxyClient,
+                                         final DescribeMetricFiltersRequest readRequest,
+                                         final String filterName) {
+        if (filterName == null) {
+            return null;
+        }
+        DescribeMetricFiltersRequest awsRequest = readRequest;
+        while (true) {
+            final DescribeMetricFiltersResponse response =
+                    proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::describeMetricFilters);
+            if (response == null) {
+                return null;
             }
-            if (response.metricFilters().isEmpty()) {
-                return false;
+            boolean prefixed = true;
+            for (final MetricFilter metricFilter : response.metricFilters()) {
+                if (filterName.equals(metricFilter.filterName())) {
+                    return metricFilter;
+                }
+                prefixed &= metricFilter.filterName() != null && metricFilter.filterName().startsWith(filterName);
             }
-            return model.getFilterName().equals(response.metricFilters().get(0).filterName());
-        } catch (final ResourceNotFoundException e) {
-            return false;
+            if (!prefixed || response.nextToken() == null) {
+                return null;
+            }
+            awsRequest = awsRequest.toBuilder()
+                    .nextToken(response.nextToken())
+                    .build();
         }
     }
 }
@@ -7,4 +7,6 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+    // Retry delays spent on the operation so far, across invocations, see AdaptiveBackoff
+    private long retryDelayMillis;
 }
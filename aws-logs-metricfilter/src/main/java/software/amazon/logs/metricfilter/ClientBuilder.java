@@ -6,17 +6,28 @@ import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.retry.backoff.FullJitterBackoffStrategy;
 import software.amazon.awssdk.core.retry.conditions.RetryCondition;
 import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClientBuilder;
 import software.amazon.cloudformation.LambdaWrapper;
 
+import java.net.URI;
 import java.time.Duration;
+import java.util.Optional;
 
 public class ClientBuilder {
 
+  static final String ENDPOINT_OVERRIDE_PROPERTY = "software.amazon.logs.endpointOverride";
+
+  // Shared by every client so the per-API rate limits hold across handler invocations
+  private static final RateLimitingInterceptor RATE_LIMITER = new RateLimitingInterceptor();
+
+  private static final MetricsInterceptor METRICS = new MetricsInterceptor();
+
   /**
    * Control plane APIs have a burst limit of 10 and rate limit of 5
    * This returns a client with a full jitter exponential back off strategy with
    * base delay of 2 seconds, to allow bucket of refilling to 10. Max back off time is 20 seconds, there's no point
-   * of backing off for more than 20 seconds.
+   * of backing off for more than 20 seconds. Calls are also paced client side by RATE_LIMITER, so the
+   * backoff only kicks in when other callers in the account use up the limit.
    *
    * @return a CloudWatchLogsClient
    */
@@ -38,11 +49,22 @@ public class ClientBuilder {
 
     ClientOverrideConfiguration configuration = ClientOverrideConfiguration.builder()
             .retryPolicy(retryPolicy)
+            .addExecutionInterceptor(METRICS)
+            .addExecutionInterceptor(RATE_LIMITER)
             .build();
 
-    return CloudWatchLogsClient.builder()
+    final CloudWatchLogsClientBuilder builder = CloudWatchLogsClient.builder()
             .overrideConfiguration(configuration)
-            .httpClient(LambdaWrapper.HTTP_CLIENT)
-            .build();
+            .httpClient(LambdaWrapper.HTTP_CLIENT);
+    endpointOverride().ifPresent(builder::endpointOverride);
+    return builder.build();
+  }
+
+  /**
+   * Points the clients at a stand-in for CloudWatch Logs, e.g. the fake service used by the benchmarks.
+   * The property is never set when running in Lambda.
+   */
+  private static Optional<URI> endpointOverride() {
+    return Optional.ofNullable(System.getProperty(ENDPOINT_OVERRIDE_PROPERTY)).map(URI::create);
   }
 }
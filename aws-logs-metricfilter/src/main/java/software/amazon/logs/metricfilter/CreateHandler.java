@@ -34,24 +34,32 @@ public class CreateHandler extends BaseHandlerStd {
             model.setFilterName(IdentifierUtils.generateResourceIdentifier(request.getLogicalResourceIdentifier(), request.getClientRequestToken(), MAX_LENGTH_METRIC_FILTER_NAME));
         }
 
-        return proxy.initiate("AWS-Logs-MetricFilter::Create", proxyClient, model, callbackContext)
-                .translateToServiceRequest(Translator::translateToCreateRequest)
-                .backoffDelay(backoffStrategy)
-                .makeServiceCall((r, c) -> createResource(model, r, c))
-                .handleError(handleError)
-                .done((x)-> ProgressEvent.<ResourceModel, CallbackContext>builder().status(OperationStatus.SUCCESS).resourceModel(model).build());
+        // The existence check runs as its own call, so a throttled put is retried without describing again
+        return ProgressEvent.progress(model, callbackContext)
+                .then(progress -> proxy.initiate("AWS-Logs-MetricFilter::Create::PreExistenceCheck", proxyClient, model, callbackContext)
+                        .translateToServiceRequest(Translator::translateToReadRequest)
+                        .backoffDelay(backoff(callbackContext))
+                        .makeServiceCall(this::describeMetricFilter)
+                        .handleError(handleError)
+                        .done(awsResponse -> {
+                            if (findMetricFilter(awsResponse, model) != null) {
+                                throw new CfnAlreadyExistsException(ResourceModel.TYPE_NAME, model.getPrimaryIdentifier().toString());
+                            }
+                            return ProgressEvent.progress(model, callbackContext);
+                        }))
+                .then(progress -> proxy.initiate("AWS-Logs-MetricFilter::Create", proxyClient, model, callbackContext)
+                        .translateToServiceRequest(Translator::translateToCreateRequest)
+                        .backoffDelay(backoff(callbackContext))
+                        .makeServiceCall((r, c) -> createResource(r, c))
+                        .handleError(handleError)
+                        .done((x)-> ProgressEvent.<ResourceModel, CallbackContext>builder().status(OperationStatus.SUCCESS).resourceModel(model).build()));
     }
 
     private PutMetricFilterResponse createResource(
-            final ResourceModel model,
             final PutMetricFilterRequest awsRequest,
             final ProxyClient<CloudWatchLogsClient> proxyClient) {
         PutMetricFilterResponse response = null;
         try {
-            boolean exists = exists(proxyClient, model);
-            if (exists) {
-                throw new CfnAlreadyExistsException(ResourceModel.TYPE_NAME, model.getPrimaryIdentifier().toString());
-            }
             logger.log(String.format("Resource doesn't exist. Creating a new one %s", ResourceModel.TYPE_NAME));
             response = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::putMetricFilter);
         } catch (final CloudWatchLogsException e) {
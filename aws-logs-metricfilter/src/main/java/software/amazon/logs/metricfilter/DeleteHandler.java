@@ -29,7 +29,7 @@ public class DeleteHandler extends BaseHandlerStd {
 
         return proxy.initiate("AWS-Logs-MetricFilter::Delete", proxyClient, model, callbackContext)
                 .translateToServiceRequest(Translator::translateToDeleteRequest)
-                .backoffDelay(backoffStrategy)
+                .backoffDelay(backoff(callbackContext))
                 .makeServiceCall(this::deleteResource)
                 .handleError(handleError)
                 .done(awsResponse -> ProgressEvent.<ResourceModel, CallbackContext>builder()
@@ -32,7 +32,7 @@ public class ReadHandler extends BaseHandlerStd {
 
         return proxy.initiate("AWS-Logs-MetricFilter::Read", proxyClient, model, callbackContext)
             .translateToServiceRequest(Translator::translateToReadRequest)
-            .backoffDelay(backoffStrategy)
+            .backoffDelay(backoff(callbackContext))
             .makeServiceCall((awsRequest, sdkProxyClient) -> readResource(awsRequest, sdkProxyClient , model))
             .handleError(handleError)
             .done(awsResponse -> ProgressEvent.<ResourceModel, CallbackContext>builder()
@@ -0,0 +1,31 @@
+package software.amazon.logs.metricfilter;
+
+/**
+ * The share of recent CloudWatch Logs attempts that were throttled, as an exponentially weighted moving average.
+ *
+ * {@link MetricsInterceptor} records every attempt made through the clients of this module, retries included, so
+ * the rate reflects the contention on the account as seen by this container, across handler invocations.
+ * {@link AdaptiveBackoff} reads it to size the delays between retries of a call chain.
+ */
+final class ThrottleRate {
+    // Weight of the latest attempt, the rate mostly reflects the last 10 or so attempts
+    static final double ALPHA = 0.1;
+
+    static final ThrottleRate SHARED = new ThrottleRate();
+
+    private double rate;
+
+    /**
+     * Records whether an attempt was throttled, from its HTTP response.
+     */
+    synchronized void record(final boolean throttled) {
+        rate += ALPHA * ((throttled ? 1 : 0) - rate);
+    }
+
+    /**
+     * @return the throttle rate, between 0 when no recent attempt was throttled and 1 when they all were
+     */
+    synchronized double get() {
+        return rate;
+    }
+}
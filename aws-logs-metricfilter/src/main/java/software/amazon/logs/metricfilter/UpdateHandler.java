@@ -2,6 +2,7 @@ package software.amazon.logs.metricfilter;
 
 import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
 import software.amazon.awssdk.services.cloudwatchlogs.model.CloudWatchLogsException;
+import software.amazon.awssdk.services.cloudwatchlogs.model.MetricFilter;
 import software.amazon.awssdk.services.cloudwatchlogs.model.PutMetricFilterRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.PutMetricFilterResponse;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
@@ -28,26 +29,40 @@ public class UpdateHandler extends BaseHandlerStd {
 
         this.logger.log(String.format("Trying to update model %s", model.getPrimaryIdentifier()));
 
-        return proxy.initiate("AWS-Logs-MetricFilter::Update", proxyClient, model, callbackContext)
-                .translateToServiceRequest(Translator::translateToUpdateRequest)
-                .backoffDelay(backoffStrategy)
-                .makeServiceCall((r, c) -> updateResource(model, r, c))
-                .handleError(handleError)
-                .success();
+        // The existence check runs as its own call, so a throttled put is retried without describing again.
+        // It also reads the filter back, which makes the put unnecessary when the filter is already as desired.
+        return ProgressEvent.progress(model, callbackContext)
+                .then(progress -> proxy.initiate("AWS-Logs-MetricFilter::Update::PreExistenceCheck", proxyClient, model, callbackContext)
+                        .translateToServiceRequest(Translator::translateToReadRequest)
+                        .backoffDelay(backoff(callbackContext))
+                        .makeServiceCall(this::describeMetricFilter)
+                        .handleError(handleError)
+                        .done(awsResponse -> {
+                            final MetricFilter metricFilter = findMetricFilter(awsResponse, model);
+                            if (metricFilter == null) {
+                                throw new CfnNotFoundException(ResourceModel.TYPE_NAME, model.getPrimaryIdentifier().toString());
+                            }
+                            if (model.equals(Translator.translateMetricFilter(metricFilter))) {
+                                logger.log(String.format("%s is already up to date.", ResourceModel.TYPE_NAME));
+                                return ProgressEvent.defaultSuccessHandler(model);
+                            }
+                            return ProgressEvent.progress(model, callbackContext);
+                        }))
+                .then(progress -> proxy.initiate("AWS-Logs-MetricFilter::Update", proxyClient, model, callbackContext)
+                        .translateToServiceRequest(Translator::translateToUpdateRequest)
+                        .backoffDelay(backoff(callbackContext))
+                        .makeServiceCall((r, c) -> updateResource(r, c))
+                        .handleError(handleError)
+                        .success());
     }
 
     private PutMetricFilterResponse updateResource(
-            final ResourceModel model,
             final PutMetricFilterRequest awsRequest,
             final ProxyClient<CloudWatchLogsClient> proxyClient) {
         PutMetricFilterResponse awsResponse = null;
         try {
-            boolean exists = exists(proxyClient, model);
-            if (!exists) {
-                throw new CfnNotFoundException(ResourceModel.TYPE_NAME, model.getPrimaryIdentifier().toString());
-            }
-            logger.log(String.format("%s has successfully been updated.", ResourceModel.TYPE_NAME));
             awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::putMetricFilter);
+            logger.log(String.format("%s has successfully been updated.", ResourceModel.TYPE_NAME));
         } catch (final CloudWatchLogsException e) {
             Translator.translateException(e);
         }
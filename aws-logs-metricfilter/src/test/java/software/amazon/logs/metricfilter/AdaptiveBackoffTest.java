@@ -0,0 +1,87 @@
+package software.amazon.logs.metricfilter;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AdaptiveBackoffTest {
+
+    @Test
+    public void nextDelay_NotThrottled_StartsBelowASecond() {
+        final AdaptiveBackoff backoff = new AdaptiveBackoff(new CallbackContext(), new ThrottleRate(), () -> 1);
+
+        assertThat(backoff.nextDelay(1)).isEqualTo(Duration.ofMillis(250));
+        assertThat(backoff.nextDelay(2)).isEqualTo(Duration.ofMillis(500));
+        assertThat(backoff.nextDelay(3)).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    public void nextDelay_Throttled_StartsHigher() {
+        final ThrottleRate throttleRate = new ThrottleRate();
+        for (int i = 0; i < 200; i++) {
+            throttleRate.record(true);
+        }
+        final AdaptiveBackoff backoff = new AdaptiveBackoff(new CallbackContext(), throttleRate, () -> 1);
+
+        assertThat(backoff.nextDelay(1)).isBetween(Duration.ofMillis(9_900), Duration.ofSeconds(10));
+    }
+
+    @Test
+    public void nextDelay_PartlyThrottled() {
+        final ThrottleRate throttleRate = new ThrottleRate();
+        throttleRate.record(true);
+        final AdaptiveBackoff backoff = new AdaptiveBackoff(new CallbackContext(), throttleRate, () -> 1);
+
+        // 250ms * (1 + 39 * 0.1)
+        assertThat(backoff.nextDelay(1)).isEqualTo(Duration.ofMillis(1_225));
+    }
+
+    @Test
+    public void nextDelay_Jittered() {
+        final AdaptiveBackoff backoff = new AdaptiveBackoff(new CallbackContext(), new ThrottleRate(), () -> 0);
+
+        assertThat(backoff.nextDelay(1)).isEqualTo(Duration.ofMillis(125));
+        assertThat(backoff.nextDelay(2)).isEqualTo(Duration.ofMillis(250));
+    }
+
+    @Test
+    public void nextDelay_Capped() {
+        final AdaptiveBackoff backoff = new AdaptiveBackoff(new CallbackContext(), new ThrottleRate(), () -> 1);
+
+        assertThat(backoff.nextDelay(0)).isEqualTo(AdaptiveBackoff.MIN_DELAY);
+        assertThat(backoff.nextDelay(30)).isEqualTo(AdaptiveBackoff.MAX_DELAY);
+        assertThat(backoff.nextDelay(Integer.MAX_VALUE)).isEqualTo(AdaptiveBackoff.MAX_DELAY);
+    }
+
+    @Test
+    public void nextDelay_BudgetSpent() {
+        final AdaptiveBackoff backoff = new AdaptiveBackoff(new CallbackContext(), new ThrottleRate(), () -> 1);
+        final long maxDelays = AdaptiveBackoff.RETRY_BUDGET.toMillis() / AdaptiveBackoff.MAX_DELAY.toMillis();
+
+        for (int i = 0; i < maxDelays; i++) {
+            assertThat(backoff.nextDelay(30)).isEqualTo(AdaptiveBackoff.MAX_DELAY);
+        }
+        assertThat(backoff.nextDelay(30)).isEqualTo(Duration.ZERO);
+        // the budget is spent exactly, so not even the shortest delay fits
+        assertThat(backoff.nextDelay(1)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void nextDelay_BudgetSpentAcrossInvocations() {
+        final CallbackContext callbackContext = new CallbackContext();
+        final long maxDelays = AdaptiveBackoff.RETRY_BUDGET.toMillis() / AdaptiveBackoff.MAX_DELAY.toMillis();
+
+        // every invocation builds the backoff of its call chain anew, on the context CloudFormation hands back
+        for (int i = 0; i < maxDelays; i++) {
+            final AdaptiveBackoff backoff = new AdaptiveBackoff(callbackContext, new ThrottleRate(), () -> 1);
+            assertThat(backoff.nextDelay(30)).isEqualTo(AdaptiveBackoff.MAX_DELAY);
+        }
+
+        assertThat(new AdaptiveBackoff(callbackContext, new ThrottleRate(), () -> 1).nextDelay(1)).isEqualTo(Duration.ZERO);
+        assertThat(callbackContext.getRetryDelayMillis()).isEqualTo(AdaptiveBackoff.RETRY_BUDGET.toMillis());
+        assertThat(new AdaptiveBackoff(new CallbackContext(), new ThrottleRate(), () -> 1).nextDelay(30))
+            .isEqualTo(AdaptiveBackoff.MAX_DELAY);
+    }
+}
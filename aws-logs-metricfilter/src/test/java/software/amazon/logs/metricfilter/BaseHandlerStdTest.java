@@ -142,6 +142,51 @@ class BaseHandlerStdTest extends AbstractTestBase {
         assertEquals(shouldExist, handler.exists(proxyClient, model));
     }
 
+    @Test
+    void exists_ExactMatchAfterPrefixMatch() {
+        final ResourceModel model = ResourceModel.builder()
+                .filterName("filter-name")
+                .logGroupName("log-group-name")
+                .build();
+
+        when(proxyClient.client().describeMetricFilters(any(DescribeMetricFiltersRequest.class)))
+                .thenReturn(DescribeMetricFiltersResponse.builder()
+                        .metricFilters(metricFilter("filter-name-a"), metricFilter("filter-name"))
+                        .build());
+
+        assertTrue(handler.exists(proxyClient, model));
+    }
+
+    @Test
+    void exists_ExactMatchOnNextPage() {
+        final ResourceModel model = ResourceModel.builder()
+                .filterName("filter-name")
+                .logGroupName("log-group-name")
+                .build();
+
+        when(proxyClient.client().describeMetricFilters(any(DescribeMetricFiltersRequest.class)))
+                .thenReturn(DescribeMetricFiltersResponse.builder()
+                                .metricFilters(metricFilter("filter-name-a"))
+                                .nextToken("token")
+                                .build(),
+                        DescribeMetricFiltersResponse.builder()
+                                .metricFilters(metricFilter("filter-name"))
+                                .build());
+
+        assertTrue(handler.exists(proxyClient, model));
+        verify(proxyClient.client()).describeMetricFilters(Translator.translateToReadRequest(model).toBuilder()
+                .nextToken("token")
+                .build());
+    }
+
+    private static MetricFilter metricFilter(final String filterName) {
+        return MetricFilter.builder()
+                .filterName(filterName)
+                .filterPattern("some pattern")
+                .logGroupName("log-group-name")
+                .build();
+    }
+
     private static Stream<Arguments> exists() {
         return Stream.of(
                 Arguments.of("filter-name-suffix", "filter-name", false),
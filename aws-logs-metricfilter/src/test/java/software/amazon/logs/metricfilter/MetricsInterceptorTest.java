@@ -0,0 +1,64 @@
+package software.amazon.logs.metricfilter;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class MetricsInterceptorTest {
+
+    @Test
+    public void records_ThrottledAttemptRetried_GrowsBackoff() {
+        final ThrottleRate throttleRate = new ThrottleRate();
+        final MetricsInterceptor interceptor = new MetricsInterceptor(throttleRate);
+        final ExecutionAttributes attributes = attributes("PutMetricFilter");
+
+        interceptor.beforeExecution(null, attributes);
+        interceptor.beforeTransmission(null, attributes);
+        interceptor.afterTransmission(response(400, "ThrottlingException"), attributes);
+        interceptor.beforeTransmission(null, attributes);
+        interceptor.afterTransmission(response(200, null), attributes);
+        interceptor.afterExecution(null, attributes);
+
+        // 250ms * (1 + 39 * 0.09), after a throttled then a successful attempt
+        assertThat(new AdaptiveBackoff(new CallbackContext(), throttleRate, () -> 1).nextDelay(1))
+            .isEqualTo(Duration.ofMillis(1_127));
+    }
+
+    @Test
+    public void records_TooManyRequests_GrowsBackoff() {
+        final ThrottleRate throttleRate = new ThrottleRate();
+        final MetricsInterceptor interceptor = new MetricsInterceptor(throttleRate);
+        final ExecutionAttributes attributes = attributes("DescribeMetricFilters");
+
+        interceptor.beforeExecution(null, attributes);
+        interceptor.beforeTransmission(null, attributes);
+        interceptor.afterTransmission(response(429, null), attributes);
+        interceptor.afterExecution(null, attributes);
+
+        // 250ms * (1 + 39 * 0.1), after a single throttled attempt
+        assertThat(new AdaptiveBackoff(new CallbackContext(), throttleRate, () -> 1).nextDelay(1))
+            .isEqualTo(Duration.ofMillis(1_225));
+    }
+
+    private static Context.AfterTransmission response(final int statusCode, final String errorType) {
+        final SdkHttpResponse.Builder response = SdkHttpResponse.builder().statusCode(statusCode);
+        if (errorType != null) {
+            response.putHeader(MetricsInterceptor.ERROR_TYPE_HEADER, errorType);
+        }
+        final Context.AfterTransmission context = mock(Context.AfterTransmission.class);
+        when(context.httpResponse()).thenReturn(response.build());
+        return context;
+    }
+
+    private static ExecutionAttributes attributes(final String operationName) {
+        return new ExecutionAttributes().putAttribute(SdkExecutionAttribute.OPERATION_NAME, operationName);
+    }
+}
@@ -0,0 +1,34 @@
+package software.amazon.logs.metricfilter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class ThrottleRateTest {
+
+    @Test
+    public void record_MovingAverage() {
+        final ThrottleRate throttleRate = new ThrottleRate();
+
+        assertThat(throttleRate.get()).isZero();
+        throttleRate.record(true);
+        assertThat(throttleRate.get()).isCloseTo(0.1, within(1e-9));
+        throttleRate.record(false);
+        assertThat(throttleRate.get()).isCloseTo(0.09, within(1e-9));
+    }
+
+    @Test
+    public void record_DecaysOnceThrottlingStops() {
+        final ThrottleRate throttleRate = new ThrottleRate();
+        for (int i = 0; i < 100; i++) {
+            throttleRate.record(true);
+        }
+        assertThat(throttleRate.get()).isGreaterThan(0.99);
+
+        for (int i = 0; i < 50; i++) {
+            throttleRate.record(false);
+        }
+        assertThat(throttleRate.get()).isLessThan(0.01);
+    }
+}
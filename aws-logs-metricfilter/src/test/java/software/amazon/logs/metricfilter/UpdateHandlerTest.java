@@ -31,6 +31,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -63,9 +64,11 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .build();
 
         final ResourceModel model = buildDefaultModel();
+        final ResourceModel previousModel = buildDefaultModel();
+        previousModel.setFilterPattern("[previous-pattern]");
 
         final DescribeMetricFiltersResponse describeResponse = DescribeMetricFiltersResponse.builder()
-                .metricFilters(Translator.translateToSDK(model))
+                .metricFilters(Translator.translateToSDK(previousModel))
                 .build();
 
         when(proxyClient.client().putMetricFilter(ArgumentMatchers.any(PutMetricFilterRequest.class)))
@@ -92,6 +95,48 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verifyNoMoreInteractions(sdkClient);
     }
 
+    @Test
+    public void handleRequest_Success_AlreadyUpToDate() {
+        final ResourceModel model = buildDefaultModel();
+
+        final DescribeMetricFiltersResponse describeResponse = DescribeMetricFiltersResponse.builder()
+                .metricFilters(Translator.translateToSDK(model))
+                .build();
+
+        when(proxyClient.client().describeMetricFilters(ArgumentMatchers.any(DescribeMetricFiltersRequest.class)))
+                .thenReturn(describeResponse);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(request.getDesiredResourceState());
+        assertThat(response.getErrorCode()).isNull();
+        verify(proxyClient.client()).describeMetricFilters(any(DescribeMetricFiltersRequest.class));
+        verify(sdkClient, atLeastOnce()).serviceName();
+        verifyNoMoreInteractions(sdkClient);
+    }
+
+    @Test
+    public void handleRequest_LogGroupNotFound() {
+        final ResourceModel model = buildDefaultModel();
+
+        when(proxyClient.client().describeMetricFilters(ArgumentMatchers.any(DescribeMetricFiltersRequest.class)))
+                .thenThrow(ResourceNotFoundException.class);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        assertThatThrownBy(() -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger))
+                .isInstanceOf(CfnNotFoundException.class);
+        verify(proxyClient.client(), never()).putMetricFilter(any(PutMetricFilterRequest.class));
+    }
+
     @Test
     public void handleRequest_ResourceNotFound() {
         final ResourceModel model = buildDefaultModel();
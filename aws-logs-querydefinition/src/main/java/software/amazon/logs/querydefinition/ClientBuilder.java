@@ -1,13 +1,38 @@
 package software.amazon.logs.querydefinition;
 
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClientBuilder;
 import software.amazon.cloudformation.LambdaWrapper;
 
+import java.net.URI;
+import java.util.Optional;
+
 final class ClientBuilder {
 
+    static final String ENDPOINT_OVERRIDE_PROPERTY = "software.amazon.logs.endpointOverride";
+
+    // Shared by every client so the per-API rate limits hold across handler invocations
+    private static final RateLimitingInterceptor RATE_LIMITER = new RateLimitingInterceptor();
+
+    private static final MetricsInterceptor METRICS = new MetricsInterceptor();
+
     static CloudWatchLogsClient getLogsClient() {
-        return CloudWatchLogsClient.builder()
+        final CloudWatchLogsClientBuilder builder = CloudWatchLogsClient.builder()
                 .httpClient(LambdaWrapper.HTTP_CLIENT)
-                .build();
+                .overrideConfiguration(ClientOverrideConfiguration.builder()
+                        .addExecutionInterceptor(METRICS)
+                        .addExecutionInterceptor(RATE_LIMITER)
+                        .build());
+        endpointOverride().ifPresent(builder::endpointOverride);
+        return builder.build();
+    }
+
+    /**
+     * Points the clients at a stand-in for CloudWatch Logs, e.g. the fake service used by the benchmarks.
+     * The property is never set when running in Lambda.
+     */
+    private static Optional<URI> endpointOverride() {
+        return Optional.ofNullable(System.getProperty(ENDPOINT_OVERRIDE_PROPERTY)).map(URI::create);
     }
 }
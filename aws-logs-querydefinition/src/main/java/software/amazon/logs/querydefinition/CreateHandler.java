@@ -22,6 +22,19 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        final ApiCallMetrics metrics = ApiCallMetrics.start(getClass());
+        try {
+            return doHandleRequest(proxy, request, callbackContext, logger);
+        } finally {
+            metrics.finish(logger);
+        }
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
 
@@ -31,6 +44,7 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
 
         PutQueryDefinitionResponse putQueryDefinitionResponse = invokePutQueryDefinitionCall(proxy, model);
         model.setQueryDefinitionId(putQueryDefinitionResponse.queryDefinitionId());
+        QueryDefinitionNames.put(model.getQueryDefinitionId(), model.getName());
 
         logger.log(String.format("%s [%s] successfully created.", ResourceModel.TYPE_NAME, model.getName()));
 
@@ -20,6 +20,19 @@ public class DeleteHandler extends BaseHandler<CallbackContext> {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        final ApiCallMetrics metrics = ApiCallMetrics.start(getClass());
+        try {
+            return doHandleRequest(proxy, request, callbackContext, logger);
+        } finally {
+            metrics.finish(logger);
+        }
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
 
@@ -34,6 +47,7 @@ public class DeleteHandler extends BaseHandler<CallbackContext> {
         } catch (ServiceUnavailableException ex) {
             throw new CfnServiceInternalErrorException(ResourceModel.TYPE_NAME, ex);
         }
+        QueryDefinitionNames.remove(model.getQueryDefinitionId());
         logger.log(String.format("%s [%s] successfully deleted.", ResourceModel.TYPE_NAME, model.getName()));
         return ProgressEvent.defaultSuccessHandler(null);
     }
@@ -11,7 +11,6 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -23,34 +22,39 @@ public class ListHandler extends BaseHandler<CallbackContext> {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        final ApiCallMetrics metrics = ApiCallMetrics.start(getClass());
+        try {
+            return doHandleRequest(proxy, request, callbackContext, logger);
+        } finally {
+            metrics.finish(logger);
+        }
+    }
 
-        final List<ResourceModel> models = new ArrayList<>();
-
-        DescribeQueryDefinitionsResponse describeQueryDefinitionsResponse;
-        String nextToken = null;
-        do {
-            try {
-                describeQueryDefinitionsResponse = proxy.injectCredentialsAndInvokeV2(Translator.translateToListRequest(nextToken),
-                        ClientBuilder.getLogsClient()::describeQueryDefinitions);
-                nextToken = describeQueryDefinitionsResponse.nextToken();
-                models.addAll(describeQueryDefinitionsResponse.queryDefinitions().stream()
-                        .map(qd -> ResourceModel.builder()
-                                .queryDefinitionId(qd.queryDefinitionId())
-                                .name(qd.name())
-                                .queryString(qd.queryString())
-                                .logGroupNames(qd.logGroupNames())
-                                .build())
-                        .collect(Collectors.toList()));
-            } catch (InvalidParameterException ex) {
-                throw new CfnInvalidRequestException(ResourceModel.TYPE_NAME, ex);
-            } catch (final ServiceUnavailableException ex) {
-                throw new CfnServiceInternalErrorException(ResourceModel.TYPE_NAME, ex);
-            }
-        } while (nextToken != null);
+    private ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
+        // One page per invocation: CloudFormation calls back with the returned token for the next one
+        final DescribeQueryDefinitionsResponse describeQueryDefinitionsResponse;
+        try {
+            describeQueryDefinitionsResponse = proxy.injectCredentialsAndInvokeV2(
+                    Translator.translateToListRequest(request.getNextToken()),
+                    ClientBuilder.getLogsClient()::describeQueryDefinitions);
+        } catch (InvalidParameterException ex) {
+            throw new CfnInvalidRequestException(ResourceModel.TYPE_NAME, ex);
+        } catch (final ServiceUnavailableException ex) {
+            throw new CfnServiceInternalErrorException(ResourceModel.TYPE_NAME, ex);
+        }
+
+        final List<ResourceModel> models = describeQueryDefinitionsResponse.queryDefinitions().stream()
+                .map(Translator::translateFromQueryDefinition)
+                .collect(Collectors.toList());
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
             .resourceModels(models)
+            .nextToken(describeQueryDefinitionsResponse.nextToken())
             .status(OperationStatus.SUCCESS)
             .build();
     }
@@ -0,0 +1,64 @@
+package software.amazon.logs.querydefinition;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Remembers the name of the query definitions this container has seen, by id.
+ *
+ * DescribeQueryDefinitions can only be narrowed down by name prefix, so a read of a model that carries just
+ * the id scans every saved query of the account. With the name of the definition known, the read can ask for
+ * that name as prefix instead, which fits in a single page. A remembered name may be stale, e.g. if the query
+ * was renamed outside of CloudFormation, so it is only a hint for where to look first.
+ */
+final class QueryDefinitionNames {
+    static final int MAX_ENTRIES = 1024;
+
+    private static final Map<String, String> NAMES = new LinkedHashMap<String, String>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, String> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private QueryDefinitionNames() {
+    }
+
+    /**
+     * @return the last seen name of the query definition, or null if it has not been seen
+     */
+    static String get(final String queryDefinitionId) {
+        if (queryDefinitionId == null) {
+            return null;
+        }
+        synchronized (NAMES) {
+            return NAMES.get(queryDefinitionId);
+        }
+    }
+
+    static void put(final String queryDefinitionId, final String name) {
+        if (queryDefinitionId == null || name == null) {
+            return;
+        }
+        synchronized (NAMES) {
+            NAMES.put(queryDefinitionId, name);
+        }
+    }
+
+    static void remove(final String queryDefinitionId) {
+        if (queryDefinitionId == null) {
+            return;
+        }
+        synchronized (NAMES) {
+            NAMES.remove(queryDefinitionId);
+        }
+    }
+
+    static void clear() {
+        synchronized (NAMES) {
+            NAMES.clear();
+        }
+    }
+}
@@ -13,6 +13,9 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 public class ReadHandler extends BaseHandler<CallbackContext> {
@@ -23,32 +26,69 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        final ApiCallMetrics metrics = ApiCallMetrics.start(getClass());
+        try {
+            return doHandleRequest(proxy, request, callbackContext, logger);
+        } finally {
+            metrics.finish(logger);
+        }
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
 
-        DescribeQueryDefinitionsResponse describeQueryDefinitionsResponse;
-        String nextToken = null;
-        do {
-            try {
-                describeQueryDefinitionsResponse = proxy.injectCredentialsAndInvokeV2(Translator.translateToReadRequest(model, nextToken),
-                        ClientBuilder.getLogsClient()::describeQueryDefinitions);
-                nextToken = describeQueryDefinitionsResponse.nextToken();
-                Optional<QueryDefinition> queryDefinition = describeQueryDefinitionsResponse.queryDefinitions().stream()
-                        .filter(qd -> qd.queryDefinitionId().equals(model.getQueryDefinitionId()))
-                        .findAny();
-                if (queryDefinition.isPresent()) {
-                    return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                            .resourceModel(model)
-                            .status(OperationStatus.SUCCESS)
-                            .build();
+        int pagesScanned = 0;
+        for (final String namePrefix : namePrefixes(model)) {
+            DescribeQueryDefinitionsResponse describeQueryDefinitionsResponse;
+            String nextToken = null;
+            do {
+                try {
+                    describeQueryDefinitionsResponse = proxy.injectCredentialsAndInvokeV2(Translator.translateToReadRequest(namePrefix, nextToken),
+                            ClientBuilder.getLogsClient()::describeQueryDefinitions);
+                    pagesScanned++;
+                    nextToken = describeQueryDefinitionsResponse.nextToken();
+                    Optional<QueryDefinition> queryDefinition = describeQueryDefinitionsResponse.queryDefinitions().stream()
+                            .filter(qd -> qd.queryDefinitionId().equals(model.getQueryDefinitionId()))
+                            .findAny();
+                    if (queryDefinition.isPresent()) {
+                        QueryDefinitionNames.put(model.getQueryDefinitionId(), queryDefinition.get().name());
+                        logPagesScanned(logger, pagesScanned, model);
+                        return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                                .resourceModel(model)
+                                .status(OperationStatus.SUCCESS)
+                                .build();
+                    }
+                } catch (InvalidParameterException ex) {
+                    throw new CfnInvalidRequestException(ResourceModel.TYPE_NAME, ex);
+                } catch (ServiceUnavailableException ex) {
+                    throw new CfnServiceInternalErrorException(ResourceModel.TYPE_NAME, ex);
                 }
-            } catch (InvalidParameterException ex) {
-                throw new CfnInvalidRequestException(ResourceModel.TYPE_NAME, ex);
-            } catch (ServiceUnavailableException ex) {
-                throw new CfnServiceInternalErrorException(ResourceModel.TYPE_NAME, ex);
-            }
-        } while (nextToken != null);
+            } while (nextToken != null);
+        }
 
+        logPagesScanned(logger, pagesScanned, model);
         throw new CfnNotFoundException(ResourceModel.TYPE_NAME, model.getPrimaryIdentifier().toString());
     }
+
+    /**
+     * The name prefixes to look for the query definition under, narrowest first. The name in the model is
+     * authoritative. Without one, the name the definition last had is tried before scanning all definitions.
+     */
+    private static List<String> namePrefixes(final ResourceModel model) {
+        if (model.getName() != null) {
+            return Collections.singletonList(model.getName());
+        }
+        final String lastSeenName = QueryDefinitionNames.get(model.getQueryDefinitionId());
+        return lastSeenName != null ? Arrays.asList(lastSeenName, null) : Collections.singletonList(null);
+    }
+
+    private static void logPagesScanned(final Logger logger, final int pagesScanned, final ResourceModel model) {
+        logger.log(String.format("Scanned %d DescribeQueryDefinitions page(s) for query definition %s",
+                pagesScanned, model.getQueryDefinitionId()));
+    }
 }
@@ -3,6 +3,7 @@ package software.amazon.logs.querydefinition;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteQueryDefinitionRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeQueryDefinitionsRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.PutQueryDefinitionRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.QueryDefinition;
 
 final class Translator {
 
@@ -21,9 +22,9 @@ final class Translator {
                 .build();
     }
 
-    static DescribeQueryDefinitionsRequest translateToReadRequest(final ResourceModel model, final String nextToken) {
+    static DescribeQueryDefinitionsRequest translateToReadRequest(final String namePrefix, final String nextToken) {
         return DescribeQueryDefinitionsRequest.builder()
-                .queryDefinitionNamePrefix(model.getName())
+                .queryDefinitionNamePrefix(namePrefix)
                 .nextToken(nextToken)
                 .maxResults(1000)
                 .build();
@@ -35,4 +36,13 @@ final class Translator {
                 .maxResults(1000)
                 .build();
     }
+
+    static ResourceModel translateFromQueryDefinition(final QueryDefinition queryDefinition) {
+        return ResourceModel.builder()
+                .queryDefinitionId(queryDefinition.queryDefinitionId())
+                .name(queryDefinition.name())
+                .queryString(queryDefinition.queryString())
+                .logGroupNames(queryDefinition.logGroupNames())
+                .build();
+    }
 }
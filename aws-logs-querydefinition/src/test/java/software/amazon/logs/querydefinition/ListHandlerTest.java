@@ -16,7 +16,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -59,41 +58,54 @@ public class ListHandlerTest {
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getResourceModel()).isNull();
         assertThat(response.getResourceModels()).isNotNull();
+        assertThat(response.getNextToken()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
 
     @Test
     public void handleNextTokenNotNull() {
-        DescribeQueryDefinitionsResponse describeQueryDefinitionsResponse1 = DescribeQueryDefinitionsResponse.builder()
-                .queryDefinitions(ImmutableList.of(QueryDefinition.builder().build())).nextToken("SOME_TOKEN").build();
-        DescribeQueryDefinitionsResponse describeQueryDefinitionsResponse2 = DescribeQueryDefinitionsResponse.builder()
-                .queryDefinitions(ImmutableList.of(QueryDefinition.builder().build())).build();
+        DescribeQueryDefinitionsResponse describeQueryDefinitionsResponse = DescribeQueryDefinitionsResponse.builder()
+                .queryDefinitions(ImmutableList.of(QueryDefinition.builder()
+                        .queryDefinitionId("id")
+                        .name("name")
+                        .queryString("fields @message")
+                        .logGroupNames("log-group")
+                        .build()))
+                .nextToken("NEXT_TOKEN")
+                .build();
         final ResourceModel model = ResourceModel.builder().build();
-        doReturn(describeQueryDefinitionsResponse1, describeQueryDefinitionsResponse2)
+        doReturn(describeQueryDefinitionsResponse)
                 .when(proxy)
                 .injectCredentialsAndInvokeV2(ArgumentMatchers.any(), ArgumentMatchers.any());
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .desiredResourceState(model)
+                .nextToken("SOME_TOKEN")
                 .build();
 
         final ProgressEvent<ResourceModel, CallbackContext> response =
                 handler.handleRequest(proxy, request, null, logger);
 
-        verify(proxy, atLeast(2)).injectCredentialsAndInvokeV2(ArgumentMatchers.any(), ArgumentMatchers.any());
+        verify(proxy).injectCredentialsAndInvokeV2(
+                ArgumentMatchers.eq(Translator.translateToListRequest("SOME_TOKEN")), ArgumentMatchers.any());
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
         assertThat(response.getCallbackContext()).isNull();
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getResourceModel()).isNull();
-        assertThat(response.getResourceModels()).isNotNull();
+        assertThat(response.getResourceModels()).containsExactly(ResourceModel.builder()
+                .queryDefinitionId("id")
+                .name("name")
+                .queryString("fields @message")
+                .logGroupNames(ImmutableList.of("log-group"))
+                .build());
+        assertThat(response.getNextToken()).isEqualTo("NEXT_TOKEN");
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
 
-
     @Test
     public void handleRequest_InvalidParameter() {
         BaseTests.handleRequest_InvalidParameter(proxy, handler, logger, null);
@@ -0,0 +1,42 @@
+package software.amazon.logs.querydefinition;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PrimerTest {
+    private static final String REGION_PROPERTY = "aws.region";
+
+    private boolean regionSet;
+
+    // The client is built with the region of the Lambda environment, which tests have to supply
+    @BeforeEach
+    public void setup() {
+        regionSet = System.getProperty(REGION_PROPERTY) == null && System.getenv("AWS_REGION") == null;
+        if (regionSet) {
+            System.setProperty(REGION_PROPERTY, "us-east-1");
+        }
+    }
+
+    @AfterEach
+    public void tear_down() {
+        if (regionSet) {
+            System.clearProperty(REGION_PROPERTY);
+        }
+    }
+
+    @Test
+    public void prime_Completes() {
+        assertThat(Primer.prime(new Configuration())).isTrue();
+    }
+
+    @Test
+    public void primeIfEnabled_OptIn() {
+        assertThat(Primer.primeIfEnabled(null, new Configuration())).isFalse();
+        assertThat(Primer.primeIfEnabled("false", new Configuration())).isFalse();
+        assertThat(Primer.primeIfEnabled("true", new Configuration())).isTrue();
+        assertThat(Primer.primeIfEnabled("true", new Configuration())).isFalse();
+    }
+}
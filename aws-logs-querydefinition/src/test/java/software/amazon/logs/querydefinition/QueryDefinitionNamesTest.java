@@ -0,0 +1,47 @@
+package software.amazon.logs.querydefinition;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class QueryDefinitionNamesTest {
+
+    @AfterEach
+    public void tear_down() {
+        QueryDefinitionNames.clear();
+    }
+
+    @Test
+    public void putAndRemove() {
+        QueryDefinitionNames.put("id", "name");
+        assertThat(QueryDefinitionNames.get("id")).isEqualTo("name");
+
+        QueryDefinitionNames.remove("id");
+        assertThat(QueryDefinitionNames.get("id")).isNull();
+    }
+
+    @Test
+    public void put_IgnoresMissingIdOrName() {
+        QueryDefinitionNames.put(null, "name");
+        QueryDefinitionNames.put("id", null);
+        QueryDefinitionNames.remove(null);
+
+        assertThat(QueryDefinitionNames.get(null)).isNull();
+        assertThat(QueryDefinitionNames.get("id")).isNull();
+    }
+
+    @Test
+    public void put_EvictsLeastRecentlyUsed() {
+        for (int i = 0; i < QueryDefinitionNames.MAX_ENTRIES; i++) {
+            QueryDefinitionNames.put("id-" + i, "name-" + i);
+        }
+        assertThat(QueryDefinitionNames.get("id-0")).isEqualTo("name-0");
+
+        QueryDefinitionNames.put("id-new", "name-new");
+
+        assertThat(QueryDefinitionNames.get("id-0")).isEqualTo("name-0");
+        assertThat(QueryDefinitionNames.get("id-1")).isNull();
+        assertThat(QueryDefinitionNames.get("id-new")).isEqualTo("name-new");
+    }
+}
@@ -16,10 +16,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Collections;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class ReadHandlerTest {
@@ -37,6 +41,7 @@ public class ReadHandlerTest {
         proxy = mock(AmazonWebServicesClientProxy.class);
         logger = mock(Logger.class);
         handler = new ReadHandler();
+        QueryDefinitionNames.clear();
     }
 
     @Test
@@ -86,6 +91,75 @@ public class ReadHandlerTest {
     }
 
 
+    @Test
+    public void handleRequest_LastSeenName_SinglePage() {
+        QueryDefinitionNames.put(MOCK_QUERYDEF_ID, "name");
+        final DescribeQueryDefinitionsResponse describeQueryDefinitionsResponse = DescribeQueryDefinitionsResponse.builder()
+                .queryDefinitions(ImmutableList.of(QueryDefinition.builder().queryDefinitionId(MOCK_QUERYDEF_ID).name("name").build()))
+                .nextToken("NEXT_TOKEN")
+                .build();
+        final ResourceModel model = ResourceModel.builder().queryDefinitionId(MOCK_QUERYDEF_ID).build();
+        doReturn(describeQueryDefinitionsResponse)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(ArgumentMatchers.eq(Translator.translateToReadRequest("name", null)), ArgumentMatchers.any());
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(ArgumentMatchers.any(), ArgumentMatchers.any());
+        verify(logger).log("Scanned 1 DescribeQueryDefinitions page(s) for query definition " + MOCK_QUERYDEF_ID);
+    }
+
+    @Test
+    public void handleRequest_StaleLastSeenName_ScansAllDefinitions() {
+        QueryDefinitionNames.put(MOCK_QUERYDEF_ID, "old-name");
+        final DescribeQueryDefinitionsResponse emptyResponse = DescribeQueryDefinitionsResponse.builder()
+                .queryDefinitions(Collections.emptyList())
+                .build();
+        final DescribeQueryDefinitionsResponse describeQueryDefinitionsResponse = DescribeQueryDefinitionsResponse.builder()
+                .queryDefinitions(ImmutableList.of(QueryDefinition.builder().queryDefinitionId(MOCK_QUERYDEF_ID).name("new-name").build()))
+                .build();
+        final ResourceModel model = ResourceModel.builder().queryDefinitionId(MOCK_QUERYDEF_ID).build();
+        doReturn(emptyResponse)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(ArgumentMatchers.eq(Translator.translateToReadRequest("old-name", null)), ArgumentMatchers.any());
+        doReturn(describeQueryDefinitionsResponse)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(ArgumentMatchers.eq(Translator.translateToReadRequest(null, null)), ArgumentMatchers.any());
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(QueryDefinitionNames.get(MOCK_QUERYDEF_ID)).isEqualTo("new-name");
+        verify(logger).log("Scanned 2 DescribeQueryDefinitions page(s) for query definition " + MOCK_QUERYDEF_ID);
+    }
+
+    @Test
+    public void handleRequest_NameInModel_NotFoundWithoutFullScan() {
+        QueryDefinitionNames.put(MOCK_QUERYDEF_ID, "old-name");
+        final DescribeQueryDefinitionsResponse emptyResponse = DescribeQueryDefinitionsResponse.builder()
+                .queryDefinitions(Collections.emptyList())
+                .build();
+        final ResourceModel model = ResourceModel.builder().queryDefinitionId(MOCK_QUERYDEF_ID).name("name").build();
+        doReturn(emptyResponse)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(ArgumentMatchers.eq(Translator.translateToReadRequest("name", null)), ArgumentMatchers.any());
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        assertThrows(CfnNotFoundException.class, () -> handler.handleRequest(proxy, request, null, logger));
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
     @Test
     public void handleRequest_ServiceUnavailable() {
         BaseTests.handleRequest_ServiceUnavailable(proxy, handler, logger, MOCK_QUERYDEF_ID);
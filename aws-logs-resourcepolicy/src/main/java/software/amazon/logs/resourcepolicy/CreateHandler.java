@@ -22,14 +22,29 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        final ApiCallMetrics metrics = ApiCallMetrics.start(getClass());
+        try {
+            return doHandleRequest(proxy, request, callbackContext, logger);
+        } finally {
+            metrics.finish(logger);
+        }
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
 
-        if (ResourcePolicyHelper.exists(proxy, model)) {
+        final ResourcePolicySnapshot snapshot = ResourcePolicySnapshot.scan(proxy, model.getPolicyName());
+        if (snapshot.contains(model.getPolicyName())) {
             throw new CfnAlreadyExistsException(ResourceModel.TYPE_NAME, model.getPrimaryIdentifier().toString());
         }
 
         PutResourcePolicyResponse putResourcePolicyResponse = invokePutResourcePolicyCall(proxy, model);
+        ResourcePolicySnapshot.cache(request, snapshot.withPolicy(model));
 
         logger.log(String.format("%s [%s] successfully created.", ResourceModel.TYPE_NAME, model.getPolicyName()));
 
@@ -11,7 +11,6 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -23,32 +22,39 @@ public class ListHandler extends BaseHandler<CallbackContext> {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        final ApiCallMetrics metrics = ApiCallMetrics.start(getClass());
+        try {
+            return doHandleRequest(proxy, request, callbackContext, logger);
+        } finally {
+            metrics.finish(logger);
+        }
+    }
 
-        final List<ResourceModel> models = new ArrayList<>();
-
-        DescribeResourcePoliciesResponse describeResourcePoliciesResponse;
-        String nextToken = null;
-        do {
-            try {
-                describeResourcePoliciesResponse = proxy.injectCredentialsAndInvokeV2(Translator.translateToListRequest(nextToken),
-                        ClientBuilder.getLogsClient()::describeResourcePolicies);
-                nextToken = describeResourcePoliciesResponse.nextToken();
-                models.addAll(describeResourcePoliciesResponse.resourcePolicies().stream()
-                        .map(rp -> ResourceModel.builder()
-                                .policyName(rp.policyName())
-                                .policyDocument(rp.policyDocument())
-                                .build())
-                        .collect(Collectors.toList()));
-            } catch (InvalidParameterException ex) {
-                throw new CfnInvalidRequestException(ResourceModel.TYPE_NAME, ex);
-            } catch (final ServiceUnavailableException ex) {
-                throw new CfnServiceInternalErrorException(ResourceModel.TYPE_NAME, ex);
-            }
-        } while (nextToken != null);
+    private ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
+        // One page per invocation: CloudFormation calls back with the returned token for the next one
+        final DescribeResourcePoliciesResponse describeResourcePoliciesResponse;
+        try {
+            describeResourcePoliciesResponse = proxy.injectCredentialsAndInvokeV2(
+                    Translator.translateToListRequest(request.getNextToken()),
+                    ClientBuilder.getLogsClient()::describeResourcePolicies);
+        } catch (InvalidParameterException ex) {
+            throw new CfnInvalidRequestException(ResourceModel.TYPE_NAME, ex);
+        } catch (final ServiceUnavailableException ex) {
+            throw new CfnServiceInternalErrorException(ResourceModel.TYPE_NAME, ex);
+        }
+
+        final List<ResourceModel> models = describeResourcePoliciesResponse.resourcePolicies().stream()
+                .map(Translator::translateFromResourcePolicy)
+                .collect(Collectors.toList());
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
             .resourceModels(models)
+            .nextToken(describeResourcePoliciesResponse.nextToken())
             .status(OperationStatus.SUCCESS)
             .build();
     }
@@ -1,8 +1,6 @@
 package software.amazon.logs.resourcepolicy;
 
-import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeResourcePoliciesResponse;
 import software.amazon.awssdk.services.cloudwatchlogs.model.InvalidParameterException;
-import software.amazon.awssdk.services.cloudwatchlogs.model.ResourcePolicy;
 import software.amazon.awssdk.services.cloudwatchlogs.model.ServiceUnavailableException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
@@ -13,8 +11,6 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import java.util.Optional;
-
 public class ReadHandler extends BaseHandler<CallbackContext> {
 
     @Override
@@ -23,32 +19,38 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        final ApiCallMetrics metrics = ApiCallMetrics.start(getClass());
+        try {
+            return doHandleRequest(proxy, request, callbackContext, logger);
+        } finally {
+            metrics.finish(logger);
+        }
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
 
-        DescribeResourcePoliciesResponse describeResourcePoliciesResponse;
-        String nextToken = null;
-        do {
-            try {
-                describeResourcePoliciesResponse = proxy.injectCredentialsAndInvokeV2(Translator.translateToListRequest(nextToken),
-                        ClientBuilder.getLogsClient()::describeResourcePolicies);
-                nextToken = describeResourcePoliciesResponse.nextToken();
-                Optional<ResourcePolicy> resourcePolicy = describeResourcePoliciesResponse.resourcePolicies().stream()
-                        .filter(rp -> rp.policyName().equals(model.getPolicyName()))
-                        .findAny();
-                if (resourcePolicy.isPresent()) {
-                    return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                            .resourceModel(model)
-                            .status(OperationStatus.SUCCESS)
-                            .build();
-                }
-            } catch (InvalidParameterException ex) {
-                throw new CfnInvalidRequestException(ResourceModel.TYPE_NAME, ex);
-            } catch (ServiceUnavailableException ex) {
-                throw new CfnServiceInternalErrorException(ResourceModel.TYPE_NAME, ex);
-            }
-        } while (nextToken != null);
+        final ResourcePolicySnapshot snapshot;
+        try {
+            snapshot = ResourcePolicySnapshot.cachedOrScan(proxy, request, model.getPolicyName());
+        } catch (InvalidParameterException ex) {
+            throw new CfnInvalidRequestException(ResourceModel.TYPE_NAME, ex);
+        } catch (ServiceUnavailableException ex) {
+            throw new CfnServiceInternalErrorException(ResourceModel.TYPE_NAME, ex);
+        }
 
-        throw new CfnNotFoundException(ResourceModel.TYPE_NAME, model.getPrimaryIdentifier().toString());
+        final ResourceModel resourcePolicy = snapshot.toModel(model.getPolicyName());
+        if (resourcePolicy == null) {
+            throw new CfnNotFoundException(ResourceModel.TYPE_NAME, model.getPrimaryIdentifier().toString());
+        }
+        return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                .resourceModel(resourcePolicy)
+                .status(OperationStatus.SUCCESS)
+                .build();
     }
 }
@@ -0,0 +1,132 @@
+package software.amazon.logs.resourcepolicy;
+
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeResourcePoliciesResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.ResourcePolicy;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The resource policies of an account and region, read with a single scan of DescribeResourcePolicies.
+ *
+ * A handler scans once and answers every question of the invocation from the snapshot: whether a policy
+ * exists, and what it holds. The scan stops at the page holding the policy the handler asks for, so only
+ * a snapshot that does not hold it covers every policy. Create and Update leave the snapshot, with their
+ * own put applied, in a cache for the account and region, so the Read that follows them in the same
+ * container does not scan again. Cached snapshots expire after {@link #CACHE_TTL_MILLIS}; only Read uses
+ * them, existence checks before a put always scan.
+ */
+final class ResourcePolicySnapshot {
+    static final long CACHE_TTL_MILLIS = 5_000;
+
+    private static final Map<String, ResourcePolicySnapshot> CACHE = new HashMap<>();
+
+    private final Map<String, String> policyDocuments;
+    // Whether the scan reached the last page, so that a policy missing from the snapshot does not exist
+    private final boolean complete;
+    private final long scannedAtNanos;
+
+    private ResourcePolicySnapshot(final Map<String, String> policyDocuments, final boolean complete,
+                                   final long scannedAtNanos) {
+        this.policyDocuments = Collections.unmodifiableMap(policyDocuments);
+        this.complete = complete;
+        this.scannedAtNanos = scannedAtNanos;
+    }
+
+    /**
+     * Pages through the resource policies of the account and region until the page holding the policy,
+     * or through all of them if there is no such policy.
+     */
+    static ResourcePolicySnapshot scan(final AmazonWebServicesClientProxy proxy, final String policyName) {
+        final long scannedAtNanos = System.nanoTime();
+        final Map<String, String> policyDocuments = new LinkedHashMap<>();
+        String nextToken = null;
+        do {
+            final DescribeResourcePoliciesResponse response = proxy.injectCredentialsAndInvokeV2(
+                    Translator.translateToListRequest(nextToken),
+                    ClientBuilder.getLogsClient()::describeResourcePolicies);
+            for (final ResourcePolicy policy : response.resourcePolicies()) {
+                policyDocuments.put(policy.policyName(), policy.policyDocument());
+            }
+            nextToken = response.nextToken();
+        } while (nextToken != null && !policyDocuments.containsKey(policyName));
+        return new ResourcePolicySnapshot(policyDocuments, nextToken == null, scannedAtNanos);
+    }
+
+    /**
+     * @return the cached snapshot of the request's account and region if it is recent enough and answers for
+     * the policy, otherwise a fresh scan, which is cached in turn
+     */
+    static ResourcePolicySnapshot cachedOrScan(final AmazonWebServicesClientProxy proxy,
+                                              final ResourceHandlerRequest<ResourceModel> request,
+                                              final String policyName) {
+        final String key = cacheKey(request);
+        synchronized (CACHE) {
+            final ResourcePolicySnapshot cached = CACHE.get(key);
+            if (cached != null && !cached.isExpired(System.nanoTime())
+                    && (cached.complete || cached.contains(policyName))) {
+                return cached;
+            }
+        }
+        final ResourcePolicySnapshot snapshot = scan(proxy, policyName);
+        cache(request, snapshot);
+        return snapshot;
+    }
+
+    static void cache(final ResourceHandlerRequest<ResourceModel> request, final ResourcePolicySnapshot snapshot) {
+        synchronized (CACHE) {
+            CACHE.put(cacheKey(request), snapshot);
+        }
+    }
+
+    static void evict(final ResourceHandlerRequest<ResourceModel> request) {
+        synchronized (CACHE) {
+            CACHE.remove(cacheKey(request));
+        }
+    }
+
+    static void clearCache() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+    }
+
+    boolean contains(final String policyName) {
+        return policyDocuments.containsKey(policyName);
+    }
+
+    /**
+     * @return the policy as a resource model, or null if the snapshot does not hold it
+     */
+    ResourceModel toModel(final String policyName) {
+        if (!contains(policyName)) {
+            return null;
+        }
+        return ResourceModel.builder()
+                .policyName(policyName)
+                .policyDocument(policyDocuments.get(policyName))
+                .build();
+    }
+
+    /**
+     * @return a copy of this snapshot with the policy put, as of the time this snapshot was scanned
+     */
+    ResourcePolicySnapshot withPolicy(final ResourceModel model) {
+        final Map<String, String> policyDocuments = new LinkedHashMap<>(this.policyDocuments);
+        policyDocuments.put(model.getPolicyName(), model.getPolicyDocument());
+        return new ResourcePolicySnapshot(policyDocuments, complete, scannedAtNanos);
+    }
+
+    boolean isExpired(final long nowNanos) {
+        return nowNanos - scannedAtNanos >= TimeUnit.MILLISECONDS.toNanos(CACHE_TTL_MILLIS);
+    }
+
+    private static String cacheKey(final ResourceHandlerRequest<ResourceModel> request) {
+        return request.getAwsAccountId() + "/" + request.getRegion();
+    }
+}
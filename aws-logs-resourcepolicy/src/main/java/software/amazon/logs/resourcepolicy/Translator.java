@@ -3,6 +3,7 @@ package software.amazon.logs.resourcepolicy;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DeleteResourcePolicyRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeResourcePoliciesRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.PutResourcePolicyRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.ResourcePolicy;
 
 final class Translator {
 
@@ -27,4 +28,11 @@ final class Translator {
                 .limit(RESOURCE_POLICIES_LIMIT)
                 .build();
     }
+
+    static ResourceModel translateFromResourcePolicy(final ResourcePolicy resourcePolicy) {
+        return ResourceModel.builder()
+                .policyName(resourcePolicy.policyName())
+                .policyDocument(resourcePolicy.policyDocument())
+                .build();
+    }
 }
@@ -20,6 +20,19 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        final ApiCallMetrics metrics = ApiCallMetrics.start(getClass());
+        try {
+            return doHandleRequest(proxy, request, callbackContext, logger);
+        } finally {
+            metrics.finish(logger);
+        }
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
 
@@ -31,7 +44,8 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
             return ProgressEvent.defaultFailureHandler(new CfnInvalidRequestException(ResourceModel.TYPE_NAME, new NullPointerException()), HandlerErrorCode.InvalidRequest);
         }
 
-        if (!ResourcePolicyHelper.exists(proxy, model)) {
+        final ResourcePolicySnapshot snapshot = ResourcePolicySnapshot.scan(proxy, model.getPolicyName());
+        if (!snapshot.contains(model.getPolicyName())) {
             throw new CfnNotFoundException(ResourceModel.TYPE_NAME, model.getPrimaryIdentifier().toString());
         }
 
@@ -43,6 +57,7 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
             throw new CfnServiceInternalErrorException(ResourceModel.TYPE_NAME, e);
         }
 
+        ResourcePolicySnapshot.cache(request, snapshot.withPolicy(model));
         logger.log(String.format("%s [%s] successfully updated.", ResourceModel.TYPE_NAME, model.getPolicyName()));
 
 
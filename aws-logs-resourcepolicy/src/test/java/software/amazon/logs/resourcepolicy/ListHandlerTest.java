@@ -17,7 +17,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -60,41 +59,50 @@ public class ListHandlerTest {
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getResourceModel()).isNull();
         assertThat(response.getResourceModels()).isNotNull();
+        assertThat(response.getNextToken()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
 
     @Test
     public void handleNextTokenNotNull() {
-        DescribeResourcePoliciesResponse describeResourcePoliciesResponse1 = DescribeResourcePoliciesResponse.builder()
-                .resourcePolicies(ImmutableList.of(ResourcePolicy.builder().build())).nextToken("SOME_TOKEN").build();
-        DescribeResourcePoliciesResponse describeResourcePoliciesResponse2 = DescribeResourcePoliciesResponse.builder()
-                .resourcePolicies(ImmutableList.of(ResourcePolicy.builder().build())).build();
+        DescribeResourcePoliciesResponse describeResourcePoliciesResponse = DescribeResourcePoliciesResponse.builder()
+                .resourcePolicies(ImmutableList.of(ResourcePolicy.builder()
+                        .policyName("policy")
+                        .policyDocument("{}")
+                        .build()))
+                .nextToken("NEXT_TOKEN")
+                .build();
         final ResourceModel model = ResourceModel.builder().build();
-        doReturn(describeResourcePoliciesResponse1, describeResourcePoliciesResponse2)
+        doReturn(describeResourcePoliciesResponse)
                 .when(proxy)
                 .injectCredentialsAndInvokeV2(ArgumentMatchers.any(), ArgumentMatchers.any());
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .desiredResourceState(model)
+                .nextToken("SOME_TOKEN")
                 .build();
 
         final ProgressEvent<ResourceModel, CallbackContext> response =
                 handler.handleRequest(proxy, request, null, logger);
 
-        verify(proxy, atLeast(2)).injectCredentialsAndInvokeV2(ArgumentMatchers.any(), ArgumentMatchers.any());
+        verify(proxy).injectCredentialsAndInvokeV2(
+                ArgumentMatchers.eq(Translator.translateToListRequest("SOME_TOKEN")), ArgumentMatchers.any());
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
         assertThat(response.getCallbackContext()).isNull();
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getResourceModel()).isNull();
-        assertThat(response.getResourceModels()).isNotNull();
+        assertThat(response.getResourceModels()).containsExactly(ResourceModel.builder()
+                .policyName("policy")
+                .policyDocument("{}")
+                .build());
+        assertThat(response.getNextToken()).isEqualTo("NEXT_TOKEN");
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
 
-
     @Test
     public void handleRequest_InvalidParameter() {
         BaseTests.handleRequest_InvalidParameter(proxy, handler, logger, null, DescribeResourcePoliciesRequest.class);
@@ -21,6 +21,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class ReadHandlerTest {
@@ -38,6 +40,7 @@ public class ReadHandlerTest {
         proxy = mock(AmazonWebServicesClientProxy.class);
         logger = mock(Logger.class);
         handler = new ReadHandler();
+        ResourcePolicySnapshot.clearCache();
     }
 
     @Test
@@ -87,6 +90,47 @@ public class ReadHandlerTest {
     }
 
 
+    @Test
+    public void handleRequest_ReturnsPolicyDocument() {
+        final DescribeResourcePoliciesResponse describeResourcePoliciesResponse = DescribeResourcePoliciesResponse.builder()
+                .resourcePolicies(ImmutableList.of(ResourcePolicy.builder().policyName(MOCK_RESOURCEPOLICY_NAME).policyDocument("{}").build()))
+                .build();
+        doReturn(describeResourcePoliciesResponse)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(ArgumentMatchers.any(), ArgumentMatchers.any());
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().policyName(MOCK_RESOURCEPOLICY_NAME).build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getResourceModel()).isEqualTo(ResourceModel.builder()
+                .policyName(MOCK_RESOURCEPOLICY_NAME)
+                .policyDocument("{}")
+                .build());
+    }
+
+    @Test
+    public void handleRequest_AfterCreate_UsesCachedSnapshot() {
+        final ResourceModel model = ResourceModel.builder().policyName(MOCK_RESOURCEPOLICY_NAME).policyDocument("{}").build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .awsAccountId("123456789012")
+                .region("us-east-1")
+                .build();
+        BaseTests.stubDescribeResponse(DescribeResourcePoliciesResponse.builder().build(), proxy);
+        new CreateHandler().handleRequest(proxy, request, null, logger);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(model);
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(
+                ArgumentMatchers.isA(DescribeResourcePoliciesRequest.class), ArgumentMatchers.any());
+    }
+
     @Test
     public void handleRequest_ServiceUnavailable() {
         BaseTests.handleRequest_ServiceUnavailable(proxy, handler, logger, MOCK_RESOURCEPOLICY_NAME, DescribeResourcePoliciesRequest.class);
@@ -0,0 +1,122 @@
+package software.amazon.logs.resourcepolicy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeResourcePoliciesRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeResourcePoliciesResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.ResourcePolicy;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class ResourcePolicySnapshotTest {
+    private AmazonWebServicesClientProxy proxy;
+    private ResourceHandlerRequest<ResourceModel> request;
+
+    @BeforeEach
+    public void setup() {
+        proxy = mock(AmazonWebServicesClientProxy.class);
+        request = ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId("123456789012")
+                .region("us-east-1")
+                .build();
+        doReturn(DescribeResourcePoliciesResponse.builder()
+                        .resourcePolicies(ResourcePolicy.builder().policyName("first").policyDocument("{\"a\":1}").build())
+                        .nextToken("token")
+                        .build(),
+                DescribeResourcePoliciesResponse.builder()
+                        .resourcePolicies(ResourcePolicy.builder().policyName("second").policyDocument("{\"b\":2}").build())
+                        .build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(ArgumentMatchers.isA(DescribeResourcePoliciesRequest.class), ArgumentMatchers.any());
+    }
+
+    @AfterEach
+    public void tear_down() {
+        ResourcePolicySnapshot.clearCache();
+    }
+
+    @Test
+    public void scan_AllPages() {
+        final ResourcePolicySnapshot snapshot = ResourcePolicySnapshot.scan(proxy, "missing");
+
+        assertThat(snapshot.contains("first")).isTrue();
+        assertThat(snapshot.contains("missing")).isFalse();
+        assertThat(snapshot.toModel("second"))
+                .isEqualTo(ResourceModel.builder().policyName("second").policyDocument("{\"b\":2}").build());
+        assertThat(snapshot.toModel("missing")).isNull();
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    @Test
+    public void scan_StopsAtPolicy() {
+        final ResourcePolicySnapshot snapshot = ResourcePolicySnapshot.scan(proxy, "first");
+
+        assertThat(snapshot.contains("first")).isTrue();
+        assertThat(snapshot.contains("second")).isFalse();
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    @Test
+    public void withPolicy_LeavesSnapshotUnchanged() {
+        final ResourcePolicySnapshot snapshot = ResourcePolicySnapshot.scan(proxy, "missing");
+        final ResourceModel model = ResourceModel.builder().policyName("first").policyDocument("{}").build();
+
+        final ResourcePolicySnapshot updated = snapshot.withPolicy(model);
+
+        assertThat(updated.toModel("first")).isEqualTo(model);
+        assertThat(updated.contains("second")).isTrue();
+        assertThat(snapshot.toModel("first").getPolicyDocument()).isEqualTo("{\"a\":1}");
+    }
+
+    @Test
+    public void cachedOrScan_ScansOncePerAccountAndRegion() {
+        final ResourcePolicySnapshot first = ResourcePolicySnapshot.cachedOrScan(proxy, request, "second");
+        final ResourcePolicySnapshot second = ResourcePolicySnapshot.cachedOrScan(proxy, request, "first");
+
+        assertThat(second).isSameAs(first);
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    @Test
+    public void cachedOrScan_PartialSnapshotWithoutPolicy_ScansAgain() {
+        final ResourcePolicySnapshot first = ResourcePolicySnapshot.cachedOrScan(proxy, request, "first");
+        doReturn(DescribeResourcePoliciesResponse.builder()
+                        .resourcePolicies(ResourcePolicy.builder().policyName("second").policyDocument("{\"b\":2}").build())
+                        .build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(ArgumentMatchers.isA(DescribeResourcePoliciesRequest.class), ArgumentMatchers.any());
+
+        final ResourcePolicySnapshot second = ResourcePolicySnapshot.cachedOrScan(proxy, request, "second");
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.contains("second")).isTrue();
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    @Test
+    public void cachedOrScan_AfterEvict() {
+        final ResourcePolicySnapshot first = ResourcePolicySnapshot.cachedOrScan(proxy, request, "second");
+        ResourcePolicySnapshot.evict(request);
+
+        assertThat(ResourcePolicySnapshot.cachedOrScan(proxy, request, "second")).isNotSameAs(first);
+    }
+
+    @Test
+    public void isExpired_AfterTtl() {
+        final ResourcePolicySnapshot snapshot = ResourcePolicySnapshot.scan(proxy, "missing");
+        final long now = System.nanoTime();
+
+        assertThat(snapshot.isExpired(now)).isFalse();
+        assertThat(snapshot.isExpired(now + TimeUnit.MILLISECONDS.toNanos(ResourcePolicySnapshot.CACHE_TTL_MILLIS))).isTrue();
+    }
+}
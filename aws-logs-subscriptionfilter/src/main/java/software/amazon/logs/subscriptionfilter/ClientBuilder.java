@@ -1,5 +1,6 @@
 package software.amazon.logs.subscriptionfilter;
 
+import com.google.common.annotations.VisibleForTesting;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.core.internal.retry.SdkDefaultRetrySetting;
 import software.amazon.awssdk.core.retry.RetryPolicy;
@@ -7,12 +8,24 @@ import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
 import software.amazon.awssdk.core.retry.backoff.EqualJitterBackoffStrategy;
 import software.amazon.awssdk.core.retry.conditions.RetryCondition;
 import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClientBuilder;
 import software.amazon.cloudformation.LambdaWrapper;
 
+import java.net.URI;
 import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class ClientBuilder {
-  private static CloudWatchLogsClient cloudWatchLogsClient;
+  static final String ENDPOINT_OVERRIDE_PROPERTY = "software.amazon.logs.endpointOverride";
+
+  private static final AtomicInteger CLIENTS_BUILT = new AtomicInteger();
+
+  private static volatile CloudWatchLogsClient cloudWatchLogsClient;
+
+  private static final RateLimitingInterceptor RATE_LIMITER = new RateLimitingInterceptor();
+
+  private static final MetricsInterceptor METRICS = new MetricsInterceptor();
 
   private static final BackoffStrategy BACKOFF_STRATEGY =
           EqualJitterBackoffStrategy.builder()
@@ -27,17 +40,56 @@ public class ClientBuilder {
                   .throttlingBackoffStrategy(BACKOFF_STRATEGY)
                   .build();
 
+  /**
+   * Returns the container wide CloudWatchLogsClient, building it on first use.
+   *
+   * Both the handler constructors and proxy.newProxy(ClientBuilder::getClient) call this on every
+   * request, so the client is cached with double-checked locking: warm invocations pay no
+   * client construction cost and concurrent first calls cannot build more than one client.
+   *
+   * @return a CloudWatchLogsClient
+   */
   public static CloudWatchLogsClient getClient() {
-    if (cloudWatchLogsClient == null) {
-        cloudWatchLogsClient =  CloudWatchLogsClient.builder()
-                .httpClient(LambdaWrapper.HTTP_CLIENT)
-                .overrideConfiguration(ClientOverrideConfiguration.builder()
-                        .retryPolicy(RETRY_POLICY)
-                        .apiCallTimeout(Duration.ofSeconds(55))
-                        .build())
-                .build();
-        return cloudWatchLogsClient;
+    CloudWatchLogsClient client = cloudWatchLogsClient;
+    if (client == null) {
+      synchronized (ClientBuilder.class) {
+        client = cloudWatchLogsClient;
+        if (client == null) {
+          client = buildClient();
+          cloudWatchLogsClient = client;
+        }
       }
-      return cloudWatchLogsClient;
     }
+    return client;
+  }
+
+  /**
+   * @return the number of clients built by this container so far
+   */
+  @VisibleForTesting
+  static int getClientsBuilt() {
+    return CLIENTS_BUILT.get();
+  }
+
+  private static CloudWatchLogsClient buildClient() {
+    CLIENTS_BUILT.incrementAndGet();
+    final CloudWatchLogsClientBuilder builder = CloudWatchLogsClient.builder()
+            .httpClient(LambdaWrapper.HTTP_CLIENT)
+            .overrideConfiguration(ClientOverrideConfiguration.builder()
+                    .retryPolicy(RETRY_POLICY)
+                    .apiCallTimeout(Duration.ofSeconds(55))
+                    .addExecutionInterceptor(METRICS)
+                    .addExecutionInterceptor(RATE_LIMITER)
+                    .build());
+    endpointOverride().ifPresent(builder::endpointOverride);
+    return builder.build();
+  }
+
+  /**
+   * Points the clients at a stand-in for CloudWatch Logs, e.g. the fake service used by the benchmarks.
+   * The property is never set when running in Lambda.
+   */
+  private static Optional<URI> endpointOverride() {
+    return Optional.ofNullable(System.getProperty(ENDPOINT_OVERRIDE_PROPERTY)).map(URI::create);
+  }
 }
@@ -0,0 +1,43 @@
+package software.amazon.logs.subscriptionfilter;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientBuilderTest {
+
+    @Test
+    public void getClient_ReusesClientAcrossCalls() {
+        final CloudWatchLogsClient first = ClientBuilder.getClient();
+        final CloudWatchLogsClient second = ClientBuilder.getClient();
+
+        assertThat(second).isSameAs(first);
+        assertThat(ClientBuilder.getClientsBuilt()).isEqualTo(1);
+    }
+
+    @Test
+    public void getClient_ConcurrentCallersShareOneClient() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Callable<CloudWatchLogsClient>> callers = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                callers.add(ClientBuilder::getClient);
+            }
+            final CloudWatchLogsClient expected = ClientBuilder.getClient();
+            for (final Future<CloudWatchLogsClient> client : executor.invokeAll(callers)) {
+                assertThat(client.get()).isSameAs(expected);
+            }
+            assertThat(ClientBuilder.getClientsBuilt()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
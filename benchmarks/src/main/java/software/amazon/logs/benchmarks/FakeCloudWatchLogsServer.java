@@ -0,0 +1,160 @@
+package software.amazon.logs.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A local stand-in for the CloudWatch Logs JSON API, backed by {@link FakeCloudWatchLogsStore}.
+ *
+ * Clients reach it by overriding their endpoint with {@link #endpoint()}. Every call is counted per
+ * operation, and latency, throttling and page sizes can be injected to see how handlers behave
+ * against a slow or busy service.
+ */
+public class FakeCloudWatchLogsServer implements AutoCloseable {
+    private static final String TARGET_PREFIX = "Logs_20140328.";
+    private static final String CONTENT_TYPE = "application/x-amz-json-1.1";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final FakeCloudWatchLogsStore store = new FakeCloudWatchLogsStore(mapper);
+    private final ConcurrentMap<String, LongAdder> callCounts = new ConcurrentHashMap<>();
+    private final LongAdder throttledCalls = new LongAdder();
+    private final AtomicLong requestSequence = new AtomicLong();
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable, "fake-cloudwatch-logs");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final HttpServer server;
+
+    private volatile long latencyMillis;
+    private volatile int throttleEvery;
+
+    public FakeCloudWatchLogsServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public URI endpoint() {
+        return URI.create("http://localhost:" + server.getAddress().getPort());
+    }
+
+    public FakeCloudWatchLogsStore store() {
+        return store;
+    }
+
+    /**
+     * Delays every response, roughly the round trip time to the real service.
+     */
+    public void setLatency(final Duration latency) {
+        this.latencyMillis = latency.toMillis();
+    }
+
+    /**
+     * Rejects every n-th call with a ThrottlingException, 0 turns throttling off.
+     */
+    public void setThrottleEvery(final int throttleEvery) {
+        this.throttleEvery = throttleEvery;
+    }
+
+    public void setMaxPageSize(final int maxPageSize) {
+        store.setMaxPageSize(maxPageSize);
+    }
+
+    /**
+     * @return the number of calls per operation since the last reset, throttled calls included
+     */
+    public Map<String, Long> callCounts() {
+        final Map<String, Long> counts = new TreeMap<>();
+        callCounts.forEach((operation, count) -> counts.put(operation, count.sum()));
+        return counts;
+    }
+
+    public long throttledCalls() {
+        return throttledCalls.sum();
+    }
+
+    public void resetCallCounts() {
+        callCounts.clear();
+        throttledCalls.reset();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        try {
+            final String target = exchange.getRequestHeaders().getFirst("X-Amz-Target");
+            final String operation = target == null ? "" : target.substring(target.indexOf('.') + 1);
+            final JsonNode request = readRequest(exchange);
+            final long sequence = requestSequence.incrementAndGet();
+            callCounts.computeIfAbsent(operation, key -> new LongAdder()).increment();
+
+            if (latencyMillis > 0) {
+                TimeUnit.MILLISECONDS.sleep(latencyMillis);
+            }
+            if (throttleEvery > 0 && sequence % throttleEvery == 0) {
+                throttledCalls.increment();
+                throw new FakeServiceException("ThrottlingException", "Rate exceeded");
+            }
+            if (target == null || !target.startsWith(TARGET_PREFIX)) {
+                throw new FakeServiceException("UnknownOperationException", "Unsupported target " + target);
+            }
+            respond(exchange, 200, store.dispatch(operation, request));
+        } catch (final FakeServiceException e) {
+            exchange.getResponseHeaders().set("x-amzn-ErrorType", e.getErrorCode());
+            respond(exchange, 400, mapper.createObjectNode()
+                .put("__type", e.getErrorCode())
+                .put("message", e.getMessage()));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            respond(exchange, 500, mapper.createObjectNode().put("__type", "ServiceUnavailableException"));
+        } catch (final RuntimeException e) {
+            respond(exchange, 500, mapper.createObjectNode()
+                .put("__type", "ServiceUnavailableException")
+                .put("message", String.valueOf(e.getMessage())));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private JsonNode readRequest(final HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            final JsonNode request = mapper.readTree(body);
+            return request == null || request.isMissingNode() ? mapper.createObjectNode() : request;
+        }
+    }
+
+    private void respond(final HttpExchange exchange, final int status, final ObjectNode body) throws IOException {
+        final byte[] bytes = mapper.writeValueAsString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
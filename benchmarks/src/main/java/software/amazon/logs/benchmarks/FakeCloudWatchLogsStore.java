@@ -0,0 +1,467 @@
+package software.amazon.logs.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * The in-memory state behind {@link FakeCloudWatchLogsServer}.
+ *
+ * Requests and responses are the JSON documents of the CloudWatch Logs API, so stored resources are
+ * kept in the shape they are described in. Every operation is synchronized; the store is a test double,
+ * not a model of the service's consistency behaviour.
+ */
+public class FakeCloudWatchLogsStore {
+    private static final String ARN_PREFIX = "arn:aws:logs:us-east-1:123456789012:";
+    private static final int DEFAULT_LIMIT = 50;
+    private static final int MAX_QUERY_DEFINITION_RESULTS = 1000;
+
+    private final ObjectMapper mapper;
+    private final NavigableMap<String, LogGroupState> logGroups = new TreeMap<>();
+    private final NavigableMap<String, ObjectNode> destinations = new TreeMap<>();
+    private final NavigableMap<String, ObjectNode> queryDefinitions = new TreeMap<>();
+    private final NavigableMap<String, ObjectNode> resourcePolicies = new TreeMap<>();
+
+    private volatile int maxPageSize = DEFAULT_LIMIT;
+
+    FakeCloudWatchLogsStore(final ObjectMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    /**
+     * Caps the number of items returned per page, on top of the limit asked for by the caller.
+     */
+    public void setMaxPageSize(final int maxPageSize) {
+        this.maxPageSize = maxPageSize;
+    }
+
+    public synchronized void clear() {
+        logGroups.clear();
+        destinations.clear();
+        queryDefinitions.clear();
+        resourcePolicies.clear();
+    }
+
+    /**
+     * Creates a log group directly, e.g. the parent of the log streams or filters a run creates.
+     */
+    public synchronized void seedLogGroup(final String logGroupName) {
+        createLogGroup(mapper.createObjectNode().put("logGroupName", logGroupName));
+    }
+
+    public synchronized void seedLogStream(final String logGroupName, final String logStreamName) {
+        createLogStream(mapper.createObjectNode()
+            .put("logGroupName", logGroupName)
+            .put("logStreamName", logStreamName));
+    }
+
+    synchronized ObjectNode dispatch(final String operation, final JsonNode request) {
+        switch (operation) {
+            case "CreateLogGroup": return createLogGroup(request);
+            case "DeleteLogGroup": return deleteLogGroup(request);
+            case "DescribeLogGroups": return describeLogGroups(request);
+            case "PutRetentionPolicy": return putRetentionPolicy(request);
+            case "DeleteRetentionPolicy": return deleteRetentionPolicy(request);
+            case "AssociateKmsKey": return associateKmsKey(request);
+            case "DisassociateKmsKey": return disassociateKmsKey(request);
+            case "TagLogGroup": return tagLogGroup(request);
+            case "UntagLogGroup": return untagLogGroup(request);
+            case "ListTagsLogGroup": return listTagsLogGroup(request);
+            case "CreateLogStream": return createLogStream(request);
+            case "DeleteLogStream": return deleteLogStream(request);
+            case "DescribeLogStreams": return describeLogStreams(request);
+            case "PutMetricFilter": return putMetricFilter(request);
+            case "DeleteMetricFilter": return deleteMetricFilter(request);
+            case "DescribeMetricFilters": return describeMetricFilters(request);
+            case "PutSubscriptionFilter": return putSubscriptionFilter(request);
+            case "DeleteSubscriptionFilter": return deleteSubscriptionFilter(request);
+            case "DescribeSubscriptionFilters": return describeSubscriptionFilters(request);
+            case "PutDestination": return putDestination(request);
+            case "PutDestinationPolicy": return putDestinationPolicy(request);
+            case "DeleteDestination": return deleteDestination(request);
+            case "DescribeDestinations": return describeDestinations(request);
+            case "PutQueryDefinition": return putQueryDefinition(request);
+            case "DeleteQueryDefinition": return deleteQueryDefinition(request);
+            case "DescribeQueryDefinitions": return describeQueryDefinitions(request);
+            case "PutResourcePolicy": return putResourcePolicy(request);
+            case "DeleteResourcePolicy": return deleteResourcePolicy(request);
+            case "DescribeResourcePolicies": return describeResourcePolicies(request);
+            default:
+                throw new FakeServiceException("UnknownOperationException", "Unsupported operation " + operation);
+        }
+    }
+
+    // Log groups
+
+    private ObjectNode createLogGroup(final JsonNode request) {
+        final String logGroupName = required(request, "logGroupName");
+        if (logGroups.containsKey(logGroupName)) {
+            throw FakeServiceException.alreadyExists("The specified log group already exists");
+        }
+        final LogGroupState logGroup = new LogGroupState(mapper.createObjectNode()
+            .put("logGroupName", logGroupName)
+            .put("creationTime", System.currentTimeMillis())
+            .put("metricFilterCount", 0)
+            .put("arn", ARN_PREFIX + "log-group:" + logGroupName + ":*")
+            .put("storedBytes", 0L));
+        if (request.hasNonNull("kmsKeyId")) {
+            logGroup.description.put("kmsKeyId", request.get("kmsKeyId").asText());
+        }
+        if (request.hasNonNull("tags")) {
+            request.get("tags").fields().forEachRemaining(tag -> logGroup.tags.put(tag.getKey(), tag.getValue().asText()));
+        }
+        logGroups.put(logGroupName, logGroup);
+        return empty();
+    }
+
+    private ObjectNode deleteLogGroup(final JsonNode request) {
+        if (logGroups.remove(required(request, "logGroupName")) == null) {
+            throw logGroupNotFound();
+        }
+        return empty();
+    }
+
+    private ObjectNode describeLogGroups(final JsonNode request) {
+        final NavigableMap<String, ObjectNode> descriptions = new TreeMap<>();
+        logGroups.forEach((name, logGroup) -> descriptions.put(name, logGroup.description));
+        return page(descriptions, optional(request, "logGroupNamePrefix"), request, "limit", DEFAULT_LIMIT, "logGroups");
+    }
+
+    private ObjectNode putRetentionPolicy(final JsonNode request) {
+        logGroup(request).description.put("retentionInDays", Integer.parseInt(required(request, "retentionInDays")));
+        return empty();
+    }
+
+    private ObjectNode deleteRetentionPolicy(final JsonNode request) {
+        logGroup(request).description.remove("retentionInDays");
+        return empty();
+    }
+
+    private ObjectNode associateKmsKey(final JsonNode request) {
+        logGroup(request).description.put("kmsKeyId", required(request, "kmsKeyId"));
+        return empty();
+    }
+
+    private ObjectNode disassociateKmsKey(final JsonNode request) {
+        logGroup(request).description.remove("kmsKeyId");
+        return empty();
+    }
+
+    private ObjectNode tagLogGroup(final JsonNode request) {
+        final LogGroupState logGroup = logGroup(request);
+        request.get("tags").fields().forEachRemaining(tag -> logGroup.tags.put(tag.getKey(), tag.getValue().asText()));
+        return empty();
+    }
+
+    private ObjectNode untagLogGroup(final JsonNode request) {
+        final LogGroupState logGroup = logGroup(request);
+        request.get("tags").forEach(key -> logGroup.tags.remove(key.asText()));
+        return empty();
+    }
+
+    private ObjectNode listTagsLogGroup(final JsonNode request) {
+        final ObjectNode response = empty();
+        final ObjectNode tags = response.putObject("tags");
+        logGroup(request).tags.forEach(tags::put);
+        return response;
+    }
+
+    // Log streams
+
+    private ObjectNode createLogStream(final JsonNode request) {
+        final LogGroupState logGroup = logGroup(request);
+        final String logStreamName = required(request, "logStreamName");
+        if (logGroup.logStreams.containsKey(logStreamName)) {
+            throw FakeServiceException.alreadyExists("The specified log stream already exists");
+        }
+        logGroup.logStreams.put(logStreamName, mapper.createObjectNode()
+            .put("logStreamName", logStreamName)
+            .put("creationTime", System.currentTimeMillis())
+            .put("arn", ARN_PREFIX + "log-group:" + logGroup.name() + ":log-stream:" + logStreamName)
+            .put("storedBytes", 0L));
+        return empty();
+    }
+
+    private ObjectNode deleteLogStream(final JsonNode request) {
+        if (logGroup(request).logStreams.remove(required(request, "logStreamName")) == null) {
+            throw FakeServiceException.notFound("The specified log stream does not exist.");
+        }
+        return empty();
+    }
+
+    private ObjectNode describeLogStreams(final JsonNode request) {
+        return page(logGroup(request).logStreams, optional(request, "logStreamNamePrefix"), request, "limit",
+            DEFAULT_LIMIT, "logStreams");
+    }
+
+    // Metric filters
+
+    private ObjectNode putMetricFilter(final JsonNode request) {
+        final LogGroupState logGroup = logGroup(request);
+        final ObjectNode metricFilter = request.deepCopy();
+        metricFilter.put("creationTime", System.currentTimeMillis());
+        logGroup.metricFilters.put(required(request, "filterName"), metricFilter);
+        logGroup.description.put("metricFilterCount", logGroup.metricFilters.size());
+        return empty();
+    }
+
+    private ObjectNode deleteMetricFilter(final JsonNode request) {
+        final LogGroupState logGroup = logGroup(request);
+        if (logGroup.metricFilters.remove(required(request, "filterName")) == null) {
+            throw FakeServiceException.notFound("The specified resource does not exist.");
+        }
+        logGroup.description.put("metricFilterCount", logGroup.metricFilters.size());
+        return empty();
+    }
+
+    private ObjectNode describeMetricFilters(final JsonNode request) {
+        if (request.hasNonNull("logGroupName")) {
+            return page(logGroup(request).metricFilters, optional(request, "filterNamePrefix"), request, "limit",
+                DEFAULT_LIMIT, "metricFilters");
+        }
+        // Without a log group the filters of every log group are listed, ordered by log group first
+        final NavigableMap<String, ObjectNode> metricFilters = new TreeMap<>();
+        logGroups.forEach((logGroupName, logGroup) -> logGroup.metricFilters.forEach((filterName, metricFilter) ->
+            metricFilters.put(logGroupName + '\u0000' + filterName, metricFilter)));
+        return page(metricFilters, null, request, "limit", DEFAULT_LIMIT, "metricFilters");
+    }
+
+    // Subscription filters
+
+    private ObjectNode putSubscriptionFilter(final JsonNode request) {
+        final ObjectNode subscriptionFilter = request.deepCopy();
+        subscriptionFilter.put("creationTime", System.currentTimeMillis());
+        if (!subscriptionFilter.hasNonNull("distribution")) {
+            subscriptionFilter.put("distribution", "ByLogStream");
+        }
+        logGroup(request).subscriptionFilters.put(required(request, "filterName"), subscriptionFilter);
+        return empty();
+    }
+
+    private ObjectNode deleteSubscriptionFilter(final JsonNode request) {
+        if (logGroup(request).subscriptionFilters.remove(required(request, "filterName")) == null) {
+            throw FakeServiceException.notFound("The specified subscription filter does not exist.");
+        }
+        return empty();
+    }
+
+    private ObjectNode describeSubscriptionFilters(final JsonNode request) {
+        return page(logGroup(request).subscriptionFilters, optional(request, "filterNamePrefix"), request, "limit",
+            DEFAULT_LIMIT, "subscriptionFilters");
+    }
+
+    // Destinations
+
+    private ObjectNode putDestination(final JsonNode request) {
+        final String destinationName = required(request, "destinationName");
+        final ObjectNode destination = destinations.computeIfAbsent(destinationName, name -> mapper.createObjectNode()
+            .put("destinationName", name)
+            .put("arn", ARN_PREFIX + "destination:" + name)
+            .put("creationTime", System.currentTimeMillis()));
+        destination.put("targetArn", required(request, "targetArn"));
+        destination.put("roleArn", required(request, "roleArn"));
+        final ObjectNode response = empty();
+        response.set("destination", destination.deepCopy());
+        return response;
+    }
+
+    private ObjectNode putDestinationPolicy(final JsonNode request) {
+        destination(request).put("accessPolicy", required(request, "accessPolicy"));
+        return empty();
+    }
+
+    private ObjectNode deleteDestination(final JsonNode request) {
+        if (destinations.remove(required(request, "destinationName")) == null) {
+            throw FakeServiceException.notFound("The specified destination does not exist.");
+        }
+        return empty();
+    }
+
+    private ObjectNode describeDestinations(final JsonNode request) {
+        return page(destinations, optional(request, "DestinationNamePrefix"), request, "limit", DEFAULT_LIMIT,
+            "destinations");
+    }
+
+    // Query definitions
+
+    private ObjectNode putQueryDefinition(final JsonNode request) {
+        final String queryDefinitionId;
+        if (request.hasNonNull("queryDefinitionId")) {
+            queryDefinitionId = request.get("queryDefinitionId").asText();
+            if (queryDefinitionKey(queryDefinitionId) == null) {
+                throw FakeServiceException.notFound("The specified query definition does not exist.");
+            }
+            queryDefinitions.remove(queryDefinitionKey(queryDefinitionId));
+        } else {
+            queryDefinitionId = UUID.randomUUID().toString();
+        }
+        final ObjectNode queryDefinition = mapper.createObjectNode()
+            .put("queryDefinitionId", queryDefinitionId)
+            .put("name", required(request, "name"))
+            .put("queryString", required(request, "queryString"))
+            .put("lastModified", System.currentTimeMillis());
+        if (request.hasNonNull("logGroupNames")) {
+            queryDefinition.set("logGroupNames", request.get("logGroupNames").deepCopy());
+        }
+        // Query definitions are listed by name, the id keeps the key unique
+        queryDefinitions.put(queryDefinition.get("name").asText() + '\u0000' + queryDefinitionId, queryDefinition);
+        return empty().put("queryDefinitionId", queryDefinitionId);
+    }
+
+    private ObjectNode deleteQueryDefinition(final JsonNode request) {
+        final String key = queryDefinitionKey(required(request, "queryDefinitionId"));
+        if (key == null) {
+            throw FakeServiceException.notFound("The specified query definition does not exist.");
+        }
+        queryDefinitions.remove(key);
+        return empty().put("success", true);
+    }
+
+    private ObjectNode describeQueryDefinitions(final JsonNode request) {
+        return page(queryDefinitions, optional(request, "queryDefinitionNamePrefix"), request, "maxResults",
+            MAX_QUERY_DEFINITION_RESULTS, "queryDefinitions");
+    }
+
+    private String queryDefinitionKey(final String queryDefinitionId) {
+        for (final Map.Entry<String, ObjectNode> entry : queryDefinitions.entrySet()) {
+            if (entry.getValue().get("queryDefinitionId").asText().equals(queryDefinitionId)) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    // Resource policies
+
+    private ObjectNode putResourcePolicy(final JsonNode request) {
+        final ObjectNode resourcePolicy = mapper.createObjectNode()
+            .put("policyName", required(request, "policyName"))
+            .put("policyDocument", required(request, "policyDocument"))
+            .put("lastUpdatedTime", System.currentTimeMillis());
+        resourcePolicies.put(resourcePolicy.get("policyName").asText(), resourcePolicy);
+        final ObjectNode response = empty();
+        response.set("resourcePolicy", resourcePolicy.deepCopy());
+        return response;
+    }
+
+    private ObjectNode deleteResourcePolicy(final JsonNode request) {
+        if (resourcePolicies.remove(required(request, "policyName")) == null) {
+            throw FakeServiceException.notFound("Policy with name [" + request.get("policyName").asText() + "] does not exist");
+        }
+        return empty();
+    }
+
+    private ObjectNode describeResourcePolicies(final JsonNode request) {
+        return page(resourcePolicies, null, request, "limit", DEFAULT_LIMIT, "resourcePolicies");
+    }
+
+    // Helpers
+
+    /**
+     * Returns the next page of items in key order. The token handed out is the key of the last item
+     * returned, so the next page starts right after it.
+     */
+    private ObjectNode page(final NavigableMap<String, ObjectNode> items,
+                            final String prefix,
+                            final JsonNode request,
+                            final String limitField,
+                            final int defaultLimit,
+                            final String listField) {
+        final int limit = Math.min(request.hasNonNull(limitField) ? request.get(limitField).asInt() : defaultLimit,
+            maxPageSize);
+        final NavigableMap<String, ObjectNode> remaining;
+        if (request.hasNonNull("nextToken")) {
+            remaining = items.tailMap(request.get("nextToken").asText(), false);
+        } else if (prefix != null) {
+            remaining = items.tailMap(prefix, true);
+        } else {
+            remaining = items;
+        }
+
+        final ObjectNode response = empty();
+        final ArrayNode list = response.putArray(listField);
+        final Iterator<Map.Entry<String, ObjectNode>> iterator = remaining.entrySet().iterator();
+        String lastKey = null;
+        while (iterator.hasNext()) {
+            final Map.Entry<String, ObjectNode> item = iterator.next();
+            if (prefix != null && !item.getValue().path(prefixField(listField)).asText().startsWith(prefix)) {
+                break;
+            }
+            if (list.size() == limit) {
+                response.put("nextToken", lastKey);
+                break;
+            }
+            list.add(item.getValue().deepCopy());
+            lastKey = item.getKey();
+        }
+        return response;
+    }
+
+    private static String prefixField(final String listField) {
+        switch (listField) {
+            case "logGroups": return "logGroupName";
+            case "logStreams": return "logStreamName";
+            case "destinations": return "destinationName";
+            case "queryDefinitions": return "name";
+            default: return "filterName";
+        }
+    }
+
+    private LogGroupState logGroup(final JsonNode request) {
+        final LogGroupState logGroup = logGroups.get(required(request, "logGroupName"));
+        if (logGroup == null) {
+            throw logGroupNotFound();
+        }
+        return logGroup;
+    }
+
+    private ObjectNode destination(final JsonNode request) {
+        final ObjectNode destination = destinations.get(required(request, "destinationName"));
+        if (destination == null) {
+            throw FakeServiceException.notFound("The specified destination does not exist.");
+        }
+        return destination;
+    }
+
+    private static FakeServiceException logGroupNotFound() {
+        return FakeServiceException.notFound("The specified log group does not exist.");
+    }
+
+    private static String required(final JsonNode request, final String field) {
+        if (!request.hasNonNull(field)) {
+            throw FakeServiceException.invalidParameter("Missing required parameter " + field);
+        }
+        return request.get(field).asText();
+    }
+
+    private static String optional(final JsonNode request, final String field) {
+        return request.hasNonNull(field) ? request.get(field).asText() : null;
+    }
+
+    private ObjectNode empty() {
+        return mapper.createObjectNode();
+    }
+
+    private static final class LogGroupState {
+        private final ObjectNode description;
+        private final Map<String, String> tags = new TreeMap<>();
+        private final NavigableMap<String, ObjectNode> logStreams = new TreeMap<>();
+        private final NavigableMap<String, ObjectNode> metricFilters = new TreeMap<>();
+        private final NavigableMap<String, ObjectNode> subscriptionFilters = new TreeMap<>();
+
+        private LogGroupState(final ObjectNode description) {
+            this.description = description;
+        }
+
+        private String name() {
+            return description.get("logGroupName").asText();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package software.amazon.logs.benchmarks;
+
+/**
+ * An error returned by the fake CloudWatch Logs service, rendered as a JSON protocol error response.
+ */
+public class FakeServiceException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final String errorCode;
+
+    public FakeServiceException(final String errorCode, final String message) {
+        super(message);
+        this.errorCode = errorCode;
+    }
+
+    public String getErrorCode() {
+        return errorCode;
+    }
+
+    static FakeServiceException notFound(final String message) {
+        return new FakeServiceException("ResourceNotFoundException", message);
+    }
+
+    static FakeServiceException alreadyExists(final String message) {
+        return new FakeServiceException("ResourceAlreadyExistsException", message);
+    }
+
+    static FakeServiceException invalidParameter(final String message) {
+        return new FakeServiceException("InvalidParameterException", message);
+    }
+}
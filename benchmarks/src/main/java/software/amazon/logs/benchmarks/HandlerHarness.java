@@ -0,0 +1,99 @@
+package software.amazon.logs.benchmarks;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs every resource type's Create, Read, Update, List and Delete handlers end to end against
+ * {@link FakeCloudWatchLogsServer} and reports wall time and CloudWatch Logs calls per action.
+ *
+ * The run is configured with system properties:
+ * <ul>
+ *   <li>harness.resources - resources created per resource type (default 20)</li>
+ *   <li>harness.latencyMillis - latency added to every call (default 0)</li>
+ *   <li>harness.throttleEvery - throttle every n-th call, 0 to never throttle (default 0)</li>
+ *   <li>harness.maxPageSize - largest page the service returns (default 50)</li>
+ * </ul>
+ */
+public final class HandlerHarness {
+    // Read by every module's ClientBuilder
+    private static final String ENDPOINT_OVERRIDE_PROPERTY = "software.amazon.logs.endpointOverride";
+
+    private static final List<HandlerScenario> SCENARIOS = Arrays.asList(
+        new software.amazon.logs.loggroup.LogGroupScenario(),
+        new software.amazon.logs.logstream.LogStreamScenario(),
+        new software.amazon.logs.metricfilter.MetricFilterScenario(),
+        new software.amazon.logs.subscriptionfilter.SubscriptionFilterScenario(),
+        new software.amazon.logs.destination.DestinationScenario(),
+        new software.amazon.logs.querydefinition.QueryDefinitionScenario(),
+        new software.amazon.logs.resourcepolicy.ResourcePolicyScenario());
+
+    private HandlerHarness() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final int resources = Integer.getInteger("harness.resources", 20);
+        final PrintStream out = System.out;
+
+        try (FakeCloudWatchLogsServer server = new FakeCloudWatchLogsServer()) {
+            server.setLatency(Duration.ofMillis(Long.getLong("harness.latencyMillis", 0L)));
+            server.setThrottleEvery(Integer.getInteger("harness.throttleEvery", 0));
+            server.setMaxPageSize(Integer.getInteger("harness.maxPageSize", 50));
+
+            System.setProperty(ENDPOINT_OVERRIDE_PROPERTY, server.endpoint().toString());
+            if (System.getProperty("aws.region") == null && System.getenv("AWS_REGION") == null) {
+                System.setProperty("aws.region", "us-east-1");
+            }
+
+            out.printf("%-32s %-7s %9s %10s %9s %9s %8s  %s%n",
+                "Resource type", "Action", "Wall ms", "ms/op", "Invokes", "Delay s", "Throttled", "Calls");
+            for (final HandlerScenario scenario : SCENARIOS) {
+                server.store().clear();
+                scenario.seed(server.store(), resources);
+                for (final HandlerScenario.Action action : HandlerScenario.Action.values()) {
+                    if (scenario.supports(action)) {
+                        run(out, server, scenario, action, resources);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void run(final PrintStream out,
+                            final FakeCloudWatchLogsServer server,
+                            final HandlerScenario scenario,
+                            final HandlerScenario.Action action,
+                            final int resources) {
+        final HandlerRunner runner = new HandlerRunner();
+        server.resetCallCounts();
+
+        final long start = System.nanoTime();
+        String failure = null;
+        for (int i = 0; i < resources && failure == null; i++) {
+            try {
+                scenario.run(action, i, runner);
+            } catch (final RuntimeException e) {
+                failure = e.toString();
+            }
+        }
+        final long wallMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        final Map<String, Long> calls = server.callCounts();
+        out.printf("%-32s %-7s %9d %10.2f %9d %9d %8d  %s%n",
+            scenario.resourceType(),
+            action,
+            wallMillis,
+            (double) wallMillis / resources,
+            runner.getInvocations(),
+            runner.getCallbackDelaySeconds(),
+            server.throttledCalls(),
+            calls);
+        if (failure != null) {
+            out.printf("    failed: %s%n", failure);
+        }
+    }
+}
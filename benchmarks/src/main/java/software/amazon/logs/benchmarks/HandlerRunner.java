@@ -0,0 +1,93 @@
+package software.amazon.logs.benchmarks;
+
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.UUID;
+
+/**
+ * Drives a handler the way CloudFormation would: the handler is re-invoked with the returned callback
+ * context until it stops reporting IN_PROGRESS. Requested callback delays are tallied instead of waited
+ * out, so the wall time of a run only covers the work done by the handler.
+ */
+public class HandlerRunner {
+    private static final int MAX_INVOCATIONS = 50;
+
+    private final Logger logger = new LoggerProxy();
+    private final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(
+        new LoggerProxy(),
+        new Credentials("accessKey", "secretKey", "token"),
+        () -> Duration.ofMinutes(15).toMillis());
+
+    private int invocations;
+    private long callbackDelaySeconds;
+
+    @FunctionalInterface
+    public interface Handler<M, C> {
+        ProgressEvent<M, C> handleRequest(AmazonWebServicesClientProxy proxy,
+                                          ResourceHandlerRequest<M> request,
+                                          C callbackContext,
+                                          Logger logger);
+    }
+
+    /**
+     * @return the final, successful progress event
+     * @throws IllegalStateException if the handler fails
+     */
+    public <M, C> ProgressEvent<M, C> invoke(final Handler<M, C> handler, final ResourceHandlerRequest<M> request) {
+        C callbackContext = null;
+        for (int i = 0; i < MAX_INVOCATIONS; i++) {
+            invocations++;
+            final ProgressEvent<M, C> event = handler.handleRequest(proxy, request, callbackContext, logger);
+            if (event.getStatus() == OperationStatus.FAILED) {
+                throw new IllegalStateException(String.format("Handler failed with %s: %s",
+                    event.getErrorCode(), event.getMessage()));
+            }
+            if (event.getStatus() == OperationStatus.SUCCESS) {
+                return event;
+            }
+            callbackDelaySeconds += event.getCallbackDelaySeconds();
+            callbackContext = event.getCallbackContext();
+        }
+        throw new IllegalStateException("Handler did not finish after " + MAX_INVOCATIONS + " invocations");
+    }
+
+    /**
+     * @return a request for a Create, Read, Update or Delete handler
+     */
+    public static <M> ResourceHandlerRequest<M> request(final M desiredResourceState, final M previousResourceState) {
+        return ResourceHandlerRequest.<M>builder()
+            .clientRequestToken(UUID.randomUUID().toString())
+            .logicalResourceIdentifier("Benchmark")
+            .desiredResourceState(desiredResourceState)
+            .previousResourceState(previousResourceState)
+            .desiredResourceTags(Collections.emptyMap())
+            .systemTags(Collections.emptyMap())
+            .build();
+    }
+
+    /**
+     * @return a request for the given page of a List handler
+     */
+    public static <M> ResourceHandlerRequest<M> listRequest(final M desiredResourceState, final String nextToken) {
+        return ResourceHandlerRequest.<M>builder()
+            .desiredResourceState(desiredResourceState)
+            .nextToken(nextToken)
+            .build();
+    }
+
+    public int getInvocations() {
+        return invocations;
+    }
+
+    public long getCallbackDelaySeconds() {
+        return callbackDelaySeconds;
+    }
+}
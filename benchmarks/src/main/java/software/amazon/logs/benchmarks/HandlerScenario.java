@@ -0,0 +1,36 @@
+package software.amazon.logs.benchmarks;
+
+/**
+ * Runs the handlers of one resource type against the fake service.
+ *
+ * Implementations live in the package of the handlers they run. The harness calls {@link #seed} once,
+ * then every action in {@link Action} order for each of the resources the run creates.
+ */
+public interface HandlerScenario {
+
+    enum Action {
+        CREATE, READ, UPDATE, LIST, DELETE
+    }
+
+    /**
+     * @return the CloudFormation resource type, e.g. AWS::Logs::LogGroup
+     */
+    String resourceType();
+
+    /**
+     * Creates whatever the resources depend on, e.g. the log group a log stream is created in.
+     */
+    void seed(FakeCloudWatchLogsStore store, int resources);
+
+    /**
+     * @return false if the resource type has no handler for the action
+     */
+    boolean supports(Action action);
+
+    /**
+     * Runs one action for the resource with the given index.
+     *
+     * @throws RuntimeException if the handler fails
+     */
+    void run(Action action, int index, HandlerRunner runner);
+}
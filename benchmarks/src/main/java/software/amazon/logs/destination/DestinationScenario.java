@@ -0,0 +1,68 @@
+package software.amazon.logs.destination;
+
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.logs.benchmarks.FakeCloudWatchLogsStore;
+import software.amazon.logs.benchmarks.HandlerRunner;
+import software.amazon.logs.benchmarks.HandlerScenario;
+
+public class DestinationScenario implements HandlerScenario {
+
+    @Override
+    public String resourceType() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public void seed(final FakeCloudWatchLogsStore store, final int resources) {
+    }
+
+    @Override
+    public boolean supports(final Action action) {
+        return true;
+    }
+
+    @Override
+    public void run(final Action action, final int index, final HandlerRunner runner) {
+        switch (action) {
+            case CREATE:
+                invoke(runner, new CreateHandler(), model(index, "111122223333"), null);
+                break;
+            case READ:
+                invoke(runner, new ReadHandler(), ResourceModel.builder().destinationName(name(index)).build(), null);
+                break;
+            case UPDATE:
+                invoke(runner, new UpdateHandler(), model(index, "444455556666"), model(index, "111122223333"));
+                break;
+            case LIST:
+                invoke(runner, new ListHandler(), ResourceModel.builder().build(), null);
+                break;
+            case DELETE:
+                invoke(runner, new DeleteHandler(), ResourceModel.builder().destinationName(name(index)).build(), null);
+                break;
+            default:
+                throw new IllegalArgumentException(action.toString());
+        }
+    }
+
+    private static ProgressEvent<ResourceModel, CallbackContext> invoke(final HandlerRunner runner,
+                                                                        final BaseHandler<CallbackContext> handler,
+                                                                        final ResourceModel desired,
+                                                                        final ResourceModel previous) {
+        return runner.<ResourceModel, CallbackContext>invoke(handler::handleRequest, HandlerRunner.request(desired, previous));
+    }
+
+    private static ResourceModel model(final int index, final String principal) {
+        return ResourceModel.builder()
+            .destinationName(name(index))
+            .targetArn("arn:aws:kinesis:us-east-1:123456789012:stream/benchmark-" + index)
+            .roleArn("arn:aws:iam::123456789012:role/benchmark")
+            .destinationPolicy("{\"Version\":\"2012-10-17\",\"Statement\":[{\"Effect\":\"Allow\","
+                + "\"Principal\":{\"AWS\":\"" + principal + "\"},\"Action\":\"logs:PutSubscriptionFilter\","
+                + "\"Resource\":\"arn:aws:logs:us-east-1:123456789012:destination:" + name(index) + "\"}]}")
+            .build();
+    }
+
+    private static String name(final int index) {
+        return "benchmark-destination-" + index;
+    }
+}
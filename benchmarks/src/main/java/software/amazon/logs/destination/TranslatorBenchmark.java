@@ -0,0 +1,60 @@
+package software.amazon.logs.destination;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.cloudwatchlogs.model.Destination;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeDestinationsResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Destination list translation for a page of destinations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    @Param({"50", "500", "5000"})
+    public int pageSize;
+
+    private DescribeDestinationsResponse describeDestinationsResponse;
+
+    @Setup
+    public void setup() {
+        final List<Destination> destinations = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            destinations.add(Destination.builder()
+                    .destinationName("destination-" + i)
+                    .arn("arn:aws:logs:us-east-1:123456789012:destination:destination-" + i)
+                    .roleArn("arn:aws:iam::123456789012:role/benchmark")
+                    .targetArn("arn:aws:kinesis:us-east-1:123456789012:stream/benchmark-" + i)
+                    .accessPolicy("{\"Version\":\"2012-10-17\",\"Statement\":[{\"Effect\":\"Allow\","
+                            + "\"Principal\":{\"AWS\":\"111122223333\"},\"Action\":\"logs:PutSubscriptionFilter\","
+                            + "\"Resource\":\"arn:aws:logs:us-east-1:123456789012:destination:destination-" + i + "\"}]}")
+                    .build());
+        }
+        describeDestinationsResponse = DescribeDestinationsResponse.builder()
+                .destinations(destinations)
+                .build();
+    }
+
+    @Benchmark
+    public List<ResourceModel> translateFromListResponse() {
+        return Translator.translateFromListResponse(describeDestinationsResponse);
+    }
+}
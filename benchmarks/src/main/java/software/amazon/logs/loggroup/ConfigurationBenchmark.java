@@ -0,0 +1,42 @@
+package software.amazon.logs.loggroup;
+
+import org.json.JSONObject;
+import org.json.JSONTokener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the schema lookup a warm container makes on every invocation with the parse it used to make,
+ * which read aws-logs-loggroup.json from the classpath and tokenized it each time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConfigurationBenchmark {
+
+    @Benchmark
+    public JSONObject cachedResourceSchema() {
+        return new Configuration().resourceSchemaJSONObject();
+    }
+
+    @Benchmark
+    public JSONObject parsedResourceSchema() throws IOException {
+        try (InputStream schema = Configuration.class.getClassLoader().getResourceAsStream("aws-logs-loggroup.json")) {
+            return new JSONObject(new JSONTokener(schema));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package software.amazon.logs.loggroup;
+
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.logs.benchmarks.FakeCloudWatchLogsStore;
+import software.amazon.logs.benchmarks.HandlerRunner;
+import software.amazon.logs.benchmarks.HandlerScenario;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+public class LogGroupScenario implements HandlerScenario {
+
+    @Override
+    public String resourceType() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public void seed(final FakeCloudWatchLogsStore store, final int resources) {
+    }
+
+    @Override
+    public boolean supports(final Action action) {
+        return true;
+    }
+
+    @Override
+    public void run(final Action action, final int index, final HandlerRunner runner) {
+        switch (action) {
+            case CREATE:
+                invoke(runner, new CreateHandler(), model(index, 7, "value"), null);
+                break;
+            case READ:
+                invoke(runner, new ReadHandler(), ResourceModel.builder().logGroupName(name(index)).build(), null);
+                break;
+            case UPDATE:
+                invoke(runner, new UpdateHandler(), model(index, 30, "updated"), model(index, 7, "value"));
+                break;
+            case LIST:
+                String nextToken = null;
+                do {
+                    nextToken = runner.<ResourceModel, CallbackContext>invoke(new ListHandler()::handleRequest,
+                        HandlerRunner.listRequest(null, nextToken)).getNextToken();
+                } while (nextToken != null);
+                break;
+            case DELETE:
+                invoke(runner, new DeleteHandler(), ResourceModel.builder().logGroupName(name(index)).build(), null);
+                break;
+            default:
+                throw new IllegalArgumentException(action.toString());
+        }
+    }
+
+    private static ProgressEvent<ResourceModel, CallbackContext> invoke(final HandlerRunner runner,
+                                                                        final BaseHandler<CallbackContext> handler,
+                                                                        final ResourceModel desired,
+                                                                        final ResourceModel previous) {
+        return runner.<ResourceModel, CallbackContext>invoke(handler::handleRequest, HandlerRunner.request(desired, previous));
+    }
+
+    private static ResourceModel model(final int index, final int retentionInDays, final String tagValue) {
+        return ResourceModel.builder()
+            .logGroupName(name(index))
+            .retentionInDays(retentionInDays)
+            .tags(new HashSet<>(Arrays.asList(
+                Tag.builder().key("team").value(tagValue).build(),
+                Tag.builder().key("stage").value("benchmark").build())))
+            .build();
+    }
+
+    private static String name(final int index) {
+        return "/benchmark/log-group-" + index;
+    }
+}
@@ -0,0 +1,64 @@
+package software.amazon.logs.loggroup;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.logs.benchmarks.FakeCloudWatchLogsServer;
+import software.amazon.logs.benchmarks.HandlerRunner;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to the first response of a fresh JVM, i.e. a cold container, with and without priming.
+ *
+ * Every fork serves exactly one ReadHandler request against the fake service. Priming happens in the
+ * setup, which stands in for the Lambda init phase, so only the first request itself is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class StartupBenchmark {
+    private static final String LOG_GROUP_NAME = "/benchmark/startup";
+
+    @Param({"false", "true"})
+    public boolean primed;
+
+    private FakeCloudWatchLogsServer server;
+
+    @Setup
+    public void setup() throws Exception {
+        server = new FakeCloudWatchLogsServer();
+        server.store().seedLogGroup(LOG_GROUP_NAME);
+        System.setProperty(ClientBuilder.ENDPOINT_OVERRIDE_PROPERTY, server.endpoint().toString());
+        if (System.getProperty("aws.region") == null && System.getenv("AWS_REGION") == null) {
+            System.setProperty("aws.region", "us-east-1");
+        }
+        if (primed) {
+            Primer.prime(new Configuration());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> firstRead() {
+        return new HandlerRunner().<ResourceModel, CallbackContext>invoke(new ReadHandler()::handleRequest,
+            HandlerRunner.request(ResourceModel.builder().logGroupName(LOG_GROUP_NAME).build(), null));
+    }
+}
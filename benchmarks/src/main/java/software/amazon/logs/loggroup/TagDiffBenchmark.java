@@ -0,0 +1,75 @@
+package software.amazon.logs.loggroup;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the tag diff of an update with the stream based diff it replaced, on log groups carrying 50 tags,
+ * the most CloudWatch Logs allows. {@code changedTags} of the desired tags differ from the previous ones:
+ * half of them changed values, half of them new keys replacing removed ones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TagDiffBenchmark {
+    private static final int TAGS = 50;
+
+    @Param({"0", "2", "50"})
+    public int changedTags;
+
+    private Map<String, String> previousTags;
+    private Map<String, String> desiredTags;
+
+    @Setup
+    public void setup() {
+        previousTags = new HashMap<>();
+        desiredTags = new HashMap<>();
+        for (int i = 0; i < TAGS; i++) {
+            previousTags.put("key-" + i, "value-" + i);
+            if (i >= changedTags) {
+                desiredTags.put("key-" + i, "value-" + i);
+            } else if (i % 2 == 0) {
+                desiredTags.put("key-" + i, "updated-value-" + i);
+            } else {
+                desiredTags.put("new-key-" + i, "value-" + i);
+            }
+        }
+    }
+
+    @Benchmark
+    public void loopDiff(final Blackhole blackhole) {
+        blackhole.consume(TagHelper.generateTagsToAdd(previousTags, desiredTags));
+        blackhole.consume(TagHelper.generateTagsToRemove(previousTags, desiredTags));
+    }
+
+    @Benchmark
+    public void streamDiff(final Blackhole blackhole) {
+        blackhole.consume(desiredTags.entrySet().stream()
+            .filter(e -> !previousTags.containsKey(e.getKey()) || !Objects.equals(previousTags.get(e.getKey()), e.getValue()))
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+        final Set<String> desiredTagNames = desiredTags.keySet();
+        blackhole.consume(previousTags.keySet().stream()
+            .filter(tagName -> !desiredTagNames.contains(tagName))
+            .collect(Collectors.toSet()));
+    }
+}
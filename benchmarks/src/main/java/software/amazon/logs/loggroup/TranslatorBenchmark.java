@@ -0,0 +1,78 @@
+package software.amazon.logs.loggroup;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeLogGroupsResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.ListTagsLogGroupResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.LogGroup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the LogGroup list translation for a page of log groups, each carrying a handful of tags.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslatorBenchmark {
+    private static final int TAGS_PER_LOG_GROUP = 10;
+
+    @Param({"50", "500", "5000"})
+    public int pageSize;
+
+    private DescribeLogGroupsResponse describeLogGroupsResponse;
+    private Map<String, ListTagsLogGroupResponse> tagResponses;
+
+    @Setup
+    public void setup() {
+        final List<LogGroup> logGroups = new ArrayList<>(pageSize);
+        tagResponses = new HashMap<>();
+        for (int i = 0; i < pageSize; i++) {
+            final String logGroupName = "/aws/lambda/benchmark-" + i;
+            logGroups.add(LogGroup.builder()
+                    .arn("arn:aws:logs:us-east-1:123456789012:log-group:" + logGroupName + ":*")
+                    .logGroupName(logGroupName)
+                    .retentionInDays(30)
+                    .kmsKeyId("arn:aws:kms:us-east-1:123456789012:key/aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa")
+                    .build());
+
+            final Map<String, String> tags = new HashMap<>();
+            for (int t = 0; t < TAGS_PER_LOG_GROUP; t++) {
+                tags.put("key-" + t, "value-" + i + "-" + t);
+            }
+            tagResponses.put(logGroupName, ListTagsLogGroupResponse.builder().tags(tags).build());
+        }
+        describeLogGroupsResponse = DescribeLogGroupsResponse.builder()
+                .logGroups(logGroups)
+                .build();
+    }
+
+    @Benchmark
+    public List<ResourceModel> translateForList() {
+        return Translator.translateForList(describeLogGroupsResponse, tagResponses);
+    }
+
+    @Benchmark
+    public void translateSdkToTags(final Blackhole blackhole) {
+        for (final ListTagsLogGroupResponse tagResponse : tagResponses.values()) {
+            blackhole.consume(Translator.translateSdkToTags(tagResponse.tags()));
+        }
+    }
+}
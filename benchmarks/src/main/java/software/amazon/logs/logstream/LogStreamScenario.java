@@ -0,0 +1,64 @@
+package software.amazon.logs.logstream;
+
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.logs.benchmarks.FakeCloudWatchLogsStore;
+import software.amazon.logs.benchmarks.HandlerRunner;
+import software.amazon.logs.benchmarks.HandlerScenario;
+
+public class LogStreamScenario implements HandlerScenario {
+    private static final String LOG_GROUP_NAME = "/benchmark/log-streams";
+
+    @Override
+    public String resourceType() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public void seed(final FakeCloudWatchLogsStore store, final int resources) {
+        store.seedLogGroup(LOG_GROUP_NAME);
+    }
+
+    @Override
+    public boolean supports(final Action action) {
+        // Log streams are create-only, there is no Update handler
+        return action != Action.UPDATE;
+    }
+
+    @Override
+    public void run(final Action action, final int index, final HandlerRunner runner) {
+        switch (action) {
+            case CREATE:
+                invoke(runner, new CreateHandler(), model(index));
+                break;
+            case READ:
+                invoke(runner, new ReadHandler(), model(index));
+                break;
+            case LIST:
+                String nextToken = null;
+                do {
+                    nextToken = runner.<ResourceModel, CallbackContext>invoke(new ListHandler()::handleRequest,
+                        HandlerRunner.listRequest(ResourceModel.builder().logGroupName(LOG_GROUP_NAME).build(), nextToken))
+                        .getNextToken();
+                } while (nextToken != null);
+                break;
+            case DELETE:
+                invoke(runner, new DeleteHandler(), model(index));
+                break;
+            default:
+                throw new IllegalArgumentException(action.toString());
+        }
+    }
+
+    private static ProgressEvent<ResourceModel, CallbackContext> invoke(final HandlerRunner runner,
+                                                                        final BaseHandler<CallbackContext> handler,
+                                                                        final ResourceModel desired) {
+        return runner.<ResourceModel, CallbackContext>invoke(handler::handleRequest, HandlerRunner.request(desired, null));
+    }
+
+    private static ResourceModel model(final int index) {
+        return ResourceModel.builder()
+            .logGroupName(LOG_GROUP_NAME)
+            .logStreamName("log-stream-" + index)
+            .build();
+    }
+}
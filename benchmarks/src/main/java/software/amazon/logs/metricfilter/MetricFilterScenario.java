@@ -0,0 +1,87 @@
+package software.amazon.logs.metricfilter;
+
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.logs.benchmarks.FakeCloudWatchLogsStore;
+import software.amazon.logs.benchmarks.HandlerRunner;
+import software.amazon.logs.benchmarks.HandlerScenario;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+public class MetricFilterScenario implements HandlerScenario {
+    private static final String LOG_GROUP_NAME = "/benchmark/metric-filters";
+
+    @Override
+    public String resourceType() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public void seed(final FakeCloudWatchLogsStore store, final int resources) {
+        store.seedLogGroup(LOG_GROUP_NAME);
+    }
+
+    @Override
+    public boolean supports(final Action action) {
+        return true;
+    }
+
+    @Override
+    public void run(final Action action, final int index, final HandlerRunner runner) {
+        switch (action) {
+            case CREATE:
+                invoke(runner, new CreateHandler(), model(index, "{ $.latency > 100 }"), null);
+                break;
+            case READ:
+                invoke(runner, new ReadHandler(), key(index), null);
+                break;
+            case UPDATE:
+                invoke(runner, new UpdateHandler(), model(index, "{ $.latency > 200 }"), model(index, "{ $.latency > 100 }"));
+                break;
+            case LIST:
+                String nextToken = null;
+                do {
+                    nextToken = runner.<ResourceModel, CallbackContext>invoke(new ListHandler()::handleRequest,
+                        HandlerRunner.listRequest(ResourceModel.builder().build(), nextToken)).getNextToken();
+                } while (nextToken != null);
+                break;
+            case DELETE:
+                invoke(runner, new DeleteHandler(), key(index), null);
+                break;
+            default:
+                throw new IllegalArgumentException(action.toString());
+        }
+    }
+
+    private static ProgressEvent<ResourceModel, CallbackContext> invoke(final HandlerRunner runner,
+                                                                        final BaseHandler<CallbackContext> handler,
+                                                                        final ResourceModel desired,
+                                                                        final ResourceModel previous) {
+        return runner.<ResourceModel, CallbackContext>invoke(handler::handleRequest, HandlerRunner.request(desired, previous));
+    }
+
+    private static ResourceModel key(final int index) {
+        return ResourceModel.builder()
+            .logGroupName(LOG_GROUP_NAME)
+            .filterName("metric-filter-" + index)
+            .build();
+    }
+
+    private static ResourceModel model(final int index, final String filterPattern) {
+        return ResourceModel.builder()
+            .logGroupName(LOG_GROUP_NAME)
+            .filterName("metric-filter-" + index)
+            .filterPattern(filterPattern)
+            .metricTransformations(Collections.singletonList(MetricTransformation.builder()
+                .metricName("Latency" + index)
+                .metricNamespace("Benchmark")
+                .metricValue("$.latency")
+                .unit("Milliseconds")
+                .dimensions(new HashSet<>(Arrays.asList(
+                    Dimension.builder().key("Service").value("$.service").build(),
+                    Dimension.builder().key("Operation").value("$.operation").build())))
+                .build()))
+            .build();
+    }
+}
@@ -0,0 +1,95 @@
+package software.amazon.logs.metricfilter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.awssdk.services.cloudwatchlogs.model.MetricFilter;
+import software.amazon.awssdk.services.cloudwatchlogs.model.StandardUnit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the MetricFilter translations for a page of filters whose transformations set dimensions
+ * and a unit, which is the case where the SDK transformation is rebuilt the most.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    @Param({"50", "500", "5000"})
+    public int pageSize;
+
+    private List<MetricFilter> metricFilters;
+    private List<MetricTransformation> metricTransformations;
+
+    @Setup
+    public void setup() {
+        metricFilters = new ArrayList<>(pageSize);
+        metricTransformations = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            final Map<String, String> dimensions = new HashMap<>();
+            dimensions.put("Service", "$.service");
+            dimensions.put("Operation", "$.operation");
+            dimensions.put("Stage", "$.stage");
+
+            metricFilters.add(MetricFilter.builder()
+                    .filterName("filter-" + i)
+                    .logGroupName("/aws/lambda/benchmark-" + i)
+                    .filterPattern("{ $.latency > 100 }")
+                    .metricTransformations(software.amazon.awssdk.services.cloudwatchlogs.model.MetricTransformation.builder()
+                            .metricName("Latency" + i)
+                            .metricNamespace("Benchmark")
+                            .metricValue("$.latency")
+                            .defaultValue(0.0)
+                            .dimensions(dimensions)
+                            .unit(StandardUnit.MILLISECONDS)
+                            .build())
+                    .build());
+
+            metricTransformations.add(MetricTransformation.builder()
+                    .metricName("Latency" + i)
+                    .metricNamespace("Benchmark")
+                    .metricValue("$.latency")
+                    .defaultValue(0.0)
+                    .dimensions(new HashSet<>(Arrays.asList(
+                            Dimension.builder().key("Service").value("$.service").build(),
+                            Dimension.builder().key("Operation").value("$.operation").build(),
+                            Dimension.builder().key("Stage").value("$.stage").build())))
+                    .unit("Milliseconds")
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public void translateMetricFilter(final Blackhole blackhole) {
+        for (final MetricFilter metricFilter : metricFilters) {
+            blackhole.consume(Translator.translateMetricFilter(metricFilter));
+        }
+    }
+
+    @Benchmark
+    public void translateMetricTransformationToSdk(final Blackhole blackhole) {
+        for (final MetricTransformation metricTransformation : metricTransformations) {
+            blackhole.consume(Translator.translateMetricTransformationToSdk(metricTransformation));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package software.amazon.logs.querydefinition;
+
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.logs.benchmarks.FakeCloudWatchLogsStore;
+import software.amazon.logs.benchmarks.HandlerRunner;
+import software.amazon.logs.benchmarks.HandlerScenario;
+
+import java.util.Collections;
+
+public class QueryDefinitionScenario implements HandlerScenario {
+    // Ids are assigned by the service on create
+    private String[] queryDefinitionIds;
+
+    @Override
+    public String resourceType() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public void seed(final FakeCloudWatchLogsStore store, final int resources) {
+        queryDefinitionIds = new String[resources];
+    }
+
+    @Override
+    public boolean supports(final Action action) {
+        return true;
+    }
+
+    @Override
+    public void run(final Action action, final int index, final HandlerRunner runner) {
+        switch (action) {
+            case CREATE:
+                queryDefinitionIds[index] = invoke(runner, new CreateHandler(), model(index, null, 20))
+                    .getResourceModel().getQueryDefinitionId();
+                break;
+            case READ:
+                invoke(runner, new ReadHandler(), ResourceModel.builder().queryDefinitionId(queryDefinitionIds[index]).build());
+                break;
+            case UPDATE:
+                invoke(runner, new UpdateHandler(), model(index, queryDefinitionIds[index], 50));
+                break;
+            case LIST:
+                String nextToken = null;
+                do {
+                    nextToken = runner.<ResourceModel, CallbackContext>invoke(new ListHandler()::handleRequest,
+                        HandlerRunner.listRequest(ResourceModel.builder().build(), nextToken)).getNextToken();
+                } while (nextToken != null);
+                break;
+            case DELETE:
+                invoke(runner, new DeleteHandler(), ResourceModel.builder().queryDefinitionId(queryDefinitionIds[index]).build());
+                break;
+            default:
+                throw new IllegalArgumentException(action.toString());
+        }
+    }
+
+    private static ProgressEvent<ResourceModel, CallbackContext> invoke(final HandlerRunner runner,
+                                                                        final BaseHandler<CallbackContext> handler,
+                                                                        final ResourceModel desired) {
+        return runner.<ResourceModel, CallbackContext>invoke(handler::handleRequest, HandlerRunner.request(desired, null));
+    }
+
+    private static ResourceModel model(final int index, final String queryDefinitionId, final int limit) {
+        return ResourceModel.builder()
+            .queryDefinitionId(queryDefinitionId)
+            .name("benchmark/query-" + index)
+            .queryString("fields @timestamp, @message | sort @timestamp desc | limit " + limit)
+            .logGroupNames(Collections.singletonList("/benchmark/log-group"))
+            .build();
+    }
+}
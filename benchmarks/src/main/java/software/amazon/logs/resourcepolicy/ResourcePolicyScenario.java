@@ -0,0 +1,69 @@
+package software.amazon.logs.resourcepolicy;
+
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.logs.benchmarks.FakeCloudWatchLogsStore;
+import software.amazon.logs.benchmarks.HandlerRunner;
+import software.amazon.logs.benchmarks.HandlerScenario;
+
+public class ResourcePolicyScenario implements HandlerScenario {
+
+    @Override
+    public String resourceType() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public void seed(final FakeCloudWatchLogsStore store, final int resources) {
+    }
+
+    @Override
+    public boolean supports(final Action action) {
+        return true;
+    }
+
+    @Override
+    public void run(final Action action, final int index, final HandlerRunner runner) {
+        switch (action) {
+            case CREATE:
+                invoke(runner, new CreateHandler(), model(index, "route53.amazonaws.com"));
+                break;
+            case READ:
+                invoke(runner, new ReadHandler(), ResourceModel.builder().policyName(name(index)).build());
+                break;
+            case UPDATE:
+                invoke(runner, new UpdateHandler(), model(index, "es.amazonaws.com"));
+                break;
+            case LIST:
+                String nextToken = null;
+                do {
+                    nextToken = runner.<ResourceModel, CallbackContext>invoke(new ListHandler()::handleRequest,
+                        HandlerRunner.listRequest(ResourceModel.builder().build(), nextToken)).getNextToken();
+                } while (nextToken != null);
+                break;
+            case DELETE:
+                invoke(runner, new DeleteHandler(), ResourceModel.builder().policyName(name(index)).build());
+                break;
+            default:
+                throw new IllegalArgumentException(action.toString());
+        }
+    }
+
+    private static ProgressEvent<ResourceModel, CallbackContext> invoke(final HandlerRunner runner,
+                                                                        final BaseHandler<CallbackContext> handler,
+                                                                        final ResourceModel desired) {
+        return runner.<ResourceModel, CallbackContext>invoke(handler::handleRequest, HandlerRunner.request(desired, null));
+    }
+
+    private static ResourceModel model(final int index, final String service) {
+        return ResourceModel.builder()
+            .policyName(name(index))
+            .policyDocument("{\"Version\":\"2012-10-17\",\"Statement\":[{\"Effect\":\"Allow\","
+                + "\"Principal\":{\"Service\":\"" + service + "\"},\"Action\":[\"logs:CreateLogStream\",\"logs:PutLogEvents\"],"
+                + "\"Resource\":\"arn:aws:logs:us-east-1:123456789012:log-group:/benchmark/*\"}]}")
+            .build();
+    }
+
+    private static String name(final int index) {
+        return "benchmark-policy-" + index;
+    }
+}
@@ -0,0 +1,70 @@
+package software.amazon.logs.subscriptionfilter;
+
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.logs.benchmarks.FakeCloudWatchLogsStore;
+import software.amazon.logs.benchmarks.HandlerRunner;
+import software.amazon.logs.benchmarks.HandlerScenario;
+
+public class SubscriptionFilterScenario implements HandlerScenario {
+    private static final String LOG_GROUP_NAME = "/benchmark/subscription-filters";
+
+    @Override
+    public String resourceType() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public void seed(final FakeCloudWatchLogsStore store, final int resources) {
+        store.seedLogGroup(LOG_GROUP_NAME);
+    }
+
+    @Override
+    public boolean supports(final Action action) {
+        return true;
+    }
+
+    @Override
+    public void run(final Action action, final int index, final HandlerRunner runner) {
+        switch (action) {
+            case CREATE:
+                invoke(runner, new CreateHandler(), model(index), null);
+                break;
+            case READ:
+                invoke(runner, new ReadHandler(), model(index), null);
+                break;
+            case UPDATE:
+                invoke(runner, new UpdateHandler(), model(index), model(index));
+                break;
+            case LIST:
+                String nextToken = null;
+                do {
+                    nextToken = runner.<ResourceModel, CallbackContext>invoke(new ListHandler()::handleRequest,
+                        HandlerRunner.listRequest(ResourceModel.builder().logGroupName(LOG_GROUP_NAME).build(), nextToken))
+                        .getNextToken();
+                } while (nextToken != null);
+                break;
+            case DELETE:
+                invoke(runner, new DeleteHandler(), model(index), null);
+                break;
+            default:
+                throw new IllegalArgumentException(action.toString());
+        }
+    }
+
+    private static ProgressEvent<ResourceModel, CallbackContext> invoke(final HandlerRunner runner,
+                                                                        final BaseHandler<CallbackContext> handler,
+                                                                        final ResourceModel desired,
+                                                                        final ResourceModel previous) {
+        return runner.<ResourceModel, CallbackContext>invoke(handler::handleRequest, HandlerRunner.request(desired, previous));
+    }
+
+    private static ResourceModel model(final int index) {
+        return ResourceModel.builder()
+            .logGroupName(LOG_GROUP_NAME)
+            .filterName("subscription-filter-" + index)
+            .filterPattern("[ip, user, status_code = 5*]")
+            .destinationArn("arn:aws:kinesis:us-east-1:123456789012:stream/benchmark")
+            .roleArn("arn:aws:iam::123456789012:role/benchmark")
+            .build();
+    }
+}
@@ -0,0 +1,60 @@
+package software.amazon.logs.subscriptionfilter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.cloudwatchlogs.model.DescribeSubscriptionFiltersResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.Distribution;
+import software.amazon.awssdk.services.cloudwatchlogs.model.SubscriptionFilter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the SubscriptionFilter list translation for a page of filters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    @Param({"50", "500", "5000"})
+    public int pageSize;
+
+    private DescribeSubscriptionFiltersResponse describeSubscriptionFiltersResponse;
+
+    @Setup
+    public void setup() {
+        final List<SubscriptionFilter> subscriptionFilters = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            subscriptionFilters.add(SubscriptionFilter.builder()
+                    .filterName("filter-" + i)
+                    .logGroupName("/aws/lambda/benchmark")
+                    .destinationArn("arn:aws:kinesis:us-east-1:123456789012:stream/benchmark-" + i)
+                    .roleArn("arn:aws:iam::123456789012:role/benchmark")
+                    .filterPattern("[ip, user, username, timestamp, request, status_code, bytes > 1000]")
+                    .distribution(Distribution.BY_LOG_STREAM)
+                    .build());
+        }
+        describeSubscriptionFiltersResponse = DescribeSubscriptionFiltersResponse.builder()
+                .subscriptionFilters(subscriptionFilters)
+                .build();
+    }
+
+    @Benchmark
+    public List<ResourceModel> translateFromListResponse() {
+        return Translator.translateFromListResponse(describeSubscriptionFiltersResponse);
+    }
+}
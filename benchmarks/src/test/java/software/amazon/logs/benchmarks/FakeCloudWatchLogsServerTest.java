@@ -0,0 +1,64 @@
+package software.amazon.logs.benchmarks;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FakeCloudWatchLogsServerTest {
+    private FakeCloudWatchLogsServer server;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        server = new FakeCloudWatchLogsServer();
+    }
+
+    @AfterEach
+    public void tear_down() {
+        server.close();
+    }
+
+    @Test
+    public void throttleEvery_RejectsEveryNthCall() throws IOException {
+        server.setThrottleEvery(2);
+
+        final HttpURLConnection first = call("DescribeLogGroups", "{}");
+        final HttpURLConnection second = call("DescribeLogGroups", "{}");
+        final HttpURLConnection third = call("DescribeLogGroups", "{}");
+
+        assertThat(first.getResponseCode()).isEqualTo(200);
+        assertThat(second.getResponseCode()).isEqualTo(400);
+        assertThat(second.getHeaderField("x-amzn-ErrorType")).isEqualTo("ThrottlingException");
+        assertThat(third.getResponseCode()).isEqualTo(200);
+        assertThat(server.throttledCalls()).isEqualTo(1);
+        assertThat(server.callCounts()).containsEntry("DescribeLogGroups", 3L);
+    }
+
+    @Test
+    public void storeError_RenderedAsErrorResponse() throws IOException {
+        final HttpURLConnection connection = call("DescribeLogStreams", "{\"logGroupName\":\"missing\"}");
+
+        assertThat(connection.getResponseCode()).isEqualTo(400);
+        assertThat(connection.getHeaderField("x-amzn-ErrorType")).isEqualTo("ResourceNotFoundException");
+        assertThat(server.throttledCalls()).isZero();
+    }
+
+    private HttpURLConnection call(final String operation, final String body) throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) server.endpoint().toURL().openConnection();
+        connection.setRequestMethod("POST");
+        connection.setRequestProperty("X-Amz-Target", "Logs_20140328." + operation);
+        connection.setRequestProperty("Content-Type", "application/x-amz-json-1.1");
+        connection.setDoOutput(true);
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        connection.getResponseCode();
+        return connection;
+    }
+}
@@ -0,0 +1,159 @@
+package software.amazon.logs.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+public class FakeCloudWatchLogsStoreTest {
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private FakeCloudWatchLogsStore store;
+
+    @BeforeEach
+    public void setup() {
+        store = new FakeCloudWatchLogsStore(mapper);
+    }
+
+    @Test
+    public void describeLogGroups_PagesWithNextToken() {
+        for (final String name : new String[] {"e", "c", "a", "d", "b"}) {
+            store.seedLogGroup(name);
+        }
+
+        final ObjectNode first = store.dispatch("DescribeLogGroups", request().put("limit", 2));
+        final ObjectNode second = store.dispatch("DescribeLogGroups", request()
+            .put("limit", 2)
+            .put("nextToken", first.get("nextToken").asText()));
+        final ObjectNode last = store.dispatch("DescribeLogGroups", request()
+            .put("limit", 2)
+            .put("nextToken", second.get("nextToken").asText()));
+
+        assertThat(names(first, "logGroups", "logGroupName")).containsExactly("a", "b");
+        assertThat(names(second, "logGroups", "logGroupName")).containsExactly("c", "d");
+        assertThat(names(last, "logGroups", "logGroupName")).containsExactly("e");
+        assertThat(last.has("nextToken")).isFalse();
+    }
+
+    @Test
+    public void describeLogGroups_MaxPageSize() {
+        for (final String name : new String[] {"a", "b", "c"}) {
+            store.seedLogGroup(name);
+        }
+        store.setMaxPageSize(1);
+
+        final ObjectNode response = store.dispatch("DescribeLogGroups", request().put("limit", 50));
+
+        assertThat(names(response, "logGroups", "logGroupName")).containsExactly("a");
+        assertThat(response.get("nextToken").asText()).isEqualTo("a");
+    }
+
+    @Test
+    public void describeLogGroups_Prefix() {
+        for (final String name : new String[] {"/app/a", "/app/b", "/apps", "/other"}) {
+            store.seedLogGroup(name);
+        }
+
+        final ObjectNode response = store.dispatch("DescribeLogGroups", request().put("logGroupNamePrefix", "/app/"));
+
+        assertThat(names(response, "logGroups", "logGroupName")).containsExactly("/app/a", "/app/b");
+        assertThat(response.has("nextToken")).isFalse();
+    }
+
+    @Test
+    public void describeLogStreams_PrefixAcrossPages() {
+        store.seedLogGroup("logGroup");
+        for (final String name : new String[] {"shard-1", "shard-2", "shard-3", "tenant-1"}) {
+            store.seedLogStream("logGroup", name);
+        }
+
+        final List<String> logStreamNames = new ArrayList<>();
+        String nextToken = null;
+        int calls = 0;
+        do {
+            final ObjectNode request = request()
+                .put("logGroupName", "logGroup")
+                .put("logStreamNamePrefix", "shard-")
+                .put("limit", 2);
+            if (nextToken != null) {
+                request.put("nextToken", nextToken);
+            }
+            final ObjectNode response = store.dispatch("DescribeLogStreams", request);
+            logStreamNames.addAll(names(response, "logStreams", "logStreamName"));
+            nextToken = response.hasNonNull("nextToken") ? response.get("nextToken").asText() : null;
+            calls++;
+        } while (nextToken != null);
+
+        assertThat(logStreamNames).containsExactly("shard-1", "shard-2", "shard-3");
+        assertThat(calls).isEqualTo(2);
+    }
+
+    @Test
+    public void describeQueryDefinitions_ByNameWithMaxResults() {
+        store.dispatch("PutQueryDefinition", request().put("name", "b").put("queryString", "fields @message"));
+        store.dispatch("PutQueryDefinition", request().put("name", "a").put("queryString", "fields @message"));
+        store.dispatch("PutQueryDefinition", request().put("name", "c").put("queryString", "fields @message"));
+
+        final ObjectNode response = store.dispatch("DescribeQueryDefinitions", request().put("maxResults", 2));
+
+        assertThat(names(response, "queryDefinitions", "name")).containsExactly("a", "b");
+        assertThat(response.hasNonNull("nextToken")).isTrue();
+    }
+
+    @Test
+    public void notFound() {
+        store.seedLogGroup("logGroup");
+
+        assertThat(errorCode(() -> store.dispatch("DescribeLogStreams", request().put("logGroupName", "missing"))))
+            .isEqualTo("ResourceNotFoundException");
+        assertThat(errorCode(() -> store.dispatch("DeleteLogStream", request()
+            .put("logGroupName", "logGroup")
+            .put("logStreamName", "missing"))))
+            .isEqualTo("ResourceNotFoundException");
+        assertThat(errorCode(() -> store.dispatch("DeleteQueryDefinition", request().put("queryDefinitionId", "missing"))))
+            .isEqualTo("ResourceNotFoundException");
+    }
+
+    @Test
+    public void createLogStream_AlreadyExists() {
+        store.seedLogGroup("logGroup");
+        store.seedLogStream("logGroup", "logStream");
+
+        assertThat(errorCode(() -> store.seedLogStream("logGroup", "logStream")))
+            .isEqualTo("ResourceAlreadyExistsException");
+    }
+
+    @Test
+    public void dispatch_InvalidRequests() {
+        assertThat(errorCode(() -> store.dispatch("CreateLogGroup", request())))
+            .isEqualTo("InvalidParameterException");
+        assertThat(errorCode(() -> store.dispatch("GetLogEvents", request())))
+            .isEqualTo("UnknownOperationException");
+    }
+
+    private ObjectNode request() {
+        return mapper.createObjectNode();
+    }
+
+    private static List<String> names(final ObjectNode response, final String listField, final String nameField) {
+        final List<String> names = new ArrayList<>();
+        for (final JsonNode item : response.get(listField)) {
+            names.add(item.get(nameField).asText());
+        }
+        return names;
+    }
+
+    private static String errorCode(final ThrowingCallable call) {
+        final FakeServiceException exception = catchThrowableOfType(call, FakeServiceException.class);
+        assertThat(exception).isNotNull();
+        return exception.getErrorCode();
+    }
+}